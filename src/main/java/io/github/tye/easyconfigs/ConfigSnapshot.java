@@ -0,0 +1,359 @@
+package io.github.tye.easyconfigs;
+
+import io.github.tye.easyconfigs.annotations.ExternalUse;
+import io.github.tye.easyconfigs.annotations.InternalUse;
+import io.github.tye.easyconfigs.exceptions.NotOfClassException;
+import io.github.tye.easyconfigs.instances.Instance;
+import io.github.tye.easyconfigs.instances.ValueStore;
+import io.github.tye.easyconfigs.internalConfigs.Lang;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+/**
+ An immutable snapshot of every value of a registered enum. Snapshots are taken with
+ {@link EasyConfigurations#snapshot(Class)}.
+ <p>
+ All the values are captured at the same moment, so reading multiple values from a snapshot will
+ never mix values from before &amp; after a value was replaced. Values replaced after the snapshot
+ was taken won't be seen by the snapshot. To see them a new snapshot needs to be taken.
+ <p>
+ The enum is resolved once when the snapshot is taken, so each read is only an index into the
+ captured values.
+ @param <E> The enum the snapshot contains the values of. */
+@SuppressWarnings({"unused", "unchecked"})
+// Unused – These methods are intended for use projects using Easy Configurations as a dependency.
+// Unchecked – Suppresses the cast warnings for the Lists. As they are being cast to the correct class. This is ensured by the class check preceding the cast.
+@ExternalUse
+public final class ConfigSnapshot<E extends Instance> {
+
+/**
+ The values of the enum at the moment the snapshot was taken. These are never modified. */
+@InternalUse
+private final @NotNull ValueStore values;
+
+/**
+ Creates a snapshot of the given values.
+ @param values The values of the enum. These must have been checked to belong to the enum. */
+@InternalUse
+ConfigSnapshot(@NotNull ValueStore values) {
+  this.values = values;
+}
+
+/**
+ Gets the slot of the given instance, checking that its value was parsed as the intended class.
+ <p>
+ The values are checked to belong to the enum when the snapshot is taken, so the instance doesn't
+ need to be checked.
+ @param instance     The instance to get the slot of.
+ @param intendedType The {@link SupportedClasses} the value should have been parsed as.
+ @return The slot of the given instance.
+ @throws NotOfClassException If the value wasn't parsed as the intended class. */
+@Contract(pure=true)
+@InternalUse
+private int slotOf(@NotNull E instance, @NotNull SupportedClasses intendedType) throws NotOfClassException {
+  int slot = instance.ordinal();
+  if (values.getKindAt(slot) == intendedType) return slot;
+
+  throw new NotOfClassException(Lang.notOfClass(instance.getYamlPath(), intendedType.getClassNames()));
+}
+
+/**
+ @param instance The config to get the value of.
+ @return The value of the given config, as it was when this snapshot was taken. */
+@Contract(pure=true)
+@ExternalUse
+public @NotNull Object getValue(@NotNull E instance) {
+  return values.getValueAt(instance.ordinal());
+}
+
+/**
+ @param instance The config to get the value of.
+ @return Gets a {@link String} config response, as it was when this snapshot was taken.
+ @throws NotOfClassException If the selected config isn't a String value. */
+@Contract(pure=true)
+@ExternalUse
+public @NotNull String getAsString(@NotNull E instance) throws NotOfClassException {
+  int slot = slotOf(instance, SupportedClasses.STRING);
+  return (String) values.getValueAt(slot);
+}
+
+/**
+ @param instance The config to get the value of.
+ @return Gets a {@link Boolean} config response, as it was when this snapshot was taken.
+ @throws NotOfClassException If the selected config isn't a Boolean value. */
+@Contract(pure=true)
+@ExternalUse
+public boolean getAsBoolean(@NotNull E instance) throws NotOfClassException {
+  int slot = slotOf(instance, SupportedClasses.BOOLEAN);
+  return values.getBooleanAt(slot);
+}
+
+/**
+ @param instance The config to get the value of.
+ @return Gets an {@link Integer} config response, as it was when this snapshot was taken.
+ @throws NotOfClassException If the selected config isn't an Integer value. */
+@Contract(pure=true)
+@ExternalUse
+public int getAsInteger(@NotNull E instance) throws NotOfClassException {
+  int slot = slotOf(instance, SupportedClasses.INTEGER);
+  return values.getIntAt(slot);
+}
+
+/**
+ @param instance The config to get the value of.
+ @return Gets a {@link Double} config response, as it was when this snapshot was taken.
+ @throws NotOfClassException If the selected config isn't a Double value. */
+@Contract(pure=true)
+@ExternalUse
+public double getAsDouble(@NotNull E instance) throws NotOfClassException {
+  int slot = slotOf(instance, SupportedClasses.DOUBLE);
+  return values.getDoubleAt(slot);
+}
+
+/**
+ @param instance The config to get the value of.
+ @return Gets a {@link Float} config response, as it was when this snapshot was taken.
+ @throws NotOfClassException If the selected config isn't a Float value. */
+@Contract(pure=true)
+@ExternalUse
+public float getAsFloat(@NotNull E instance) throws NotOfClassException {
+  int slot = slotOf(instance, SupportedClasses.FLOAT);
+  return (float) values.getDoubleAt(slot);
+}
+
+/**
+ @param instance The config to get the value of.
+ @return Gets a {@link Short} config response, as it was when this snapshot was taken.
+ @throws NotOfClassException If the selected config isn't a Short value. */
+@Contract(pure=true)
+@ExternalUse
+public short getAsShort(@NotNull E instance) throws NotOfClassException {
+  int slot = slotOf(instance, SupportedClasses.SHORT);
+  return (short) values.getIntAt(slot);
+}
+
+/**
+ @param instance The config to get the value of.
+ @return Gets a {@link Long} config response, as it was when this snapshot was taken.
+ @throws NotOfClassException If the selected config isn't a Long value. */
+@Contract(pure=true)
+@ExternalUse
+public long getAsLong(@NotNull E instance) throws NotOfClassException {
+  int slot = slotOf(instance, SupportedClasses.LONG);
+  return values.getLongAt(slot);
+}
+
+/**
+ @param instance The config to get the value of.
+ @return Gets a {@link Byte} config response, as it was when this snapshot was taken.
+ @throws NotOfClassException If the selected config isn't a Byte value. */
+@Contract(pure=true)
+@ExternalUse
+public byte getAsByte(@NotNull E instance) throws NotOfClassException {
+  int slot = slotOf(instance, SupportedClasses.BYTE);
+  return (byte) values.getIntAt(slot);
+}
+
+/**
+ @param instance The config to get the value of.
+ @return Gets a {@link Character} config response, as it was when this snapshot was taken.
+ @throws NotOfClassException If the selected config isn't a Character value. */
+@Contract(pure=true)
+@ExternalUse
+public char getAsChar(@NotNull E instance) throws NotOfClassException {
+  int slot = slotOf(instance, SupportedClasses.CHAR);
+  return (char) values.getIntAt(slot);
+}
+
+/**
+ @param instance The config to get the value of.
+ @return Gets a {@link LocalDateTime} config response, as it was when this snapshot was taken.
+ @throws NotOfClassException If the selected config isn't a LocalDateTime value. */
+@Contract(pure=true)
+@ExternalUse
+public @NotNull LocalDateTime getAsLocalDateTime(@NotNull E instance) throws NotOfClassException {
+  int slot = slotOf(instance, SupportedClasses.LOCAL_DATE_TIME);
+  return (LocalDateTime) values.getValueAt(slot);
+}
+
+/**
+ @param instance The config to get the value of.
+ @return Gets an {@link OffsetDateTime} config response, as it was when this snapshot was taken.
+ @throws NotOfClassException If the selected config isn't an OffsetDateTime value. */
+@Contract(pure=true)
+@ExternalUse
+public @NotNull OffsetDateTime getAsOffsetDateTime(@NotNull E instance) throws NotOfClassException {
+  int slot = slotOf(instance, SupportedClasses.OFFSET_DATE_TIME);
+  return (OffsetDateTime) values.getValueAt(slot);
+}
+
+/**
+ @param instance The config to get the value of.
+ @return Gets a {@link ZonedDateTime} config response, as it was when this snapshot was taken.
+ @throws NotOfClassException If the selected config isn't a ZonedDateTime value. */
+@Contract(pure=true)
+@ExternalUse
+public @NotNull ZonedDateTime getAsZonedDateTime(@NotNull E instance) throws NotOfClassException {
+  int slot = slotOf(instance, SupportedClasses.ZONED_DATE_TIME);
+  return (ZonedDateTime) values.getValueAt(slot);
+}
+
+/**
+ @param instance The config to get the value of.
+ @return Gets a {@link ConfigObject} config response, as it was when this snapshot was taken.
+ @throws NotOfClassException If the selected config isn't a ConfigObject value. */
+@Contract(pure=true)
+@ExternalUse
+public @NotNull ConfigObject getAsConfigObject(@NotNull E instance) throws NotOfClassException {
+  int slot = slotOf(instance, SupportedClasses.CONFIG_OBJECT);
+  return (ConfigObject) values.getValueAt(slot);
+}
+
+/**
+ @param instance The config to get the value of.
+ @return Gets a {@link String} list config response, as it was when this snapshot was taken.
+ @throws NotOfClassException If the selected config isn't a string list. */
+@Contract(pure=true)
+@ExternalUse
+public @NotNull List<String> getAsStringList(@NotNull E instance) throws NotOfClassException {
+  int slot = slotOf(instance, SupportedClasses.STRING_LIST);
+  return (List<String>) values.getValueAt(slot);
+}
+
+/**
+ @param instance The config to get the value of.
+ @return Gets a {@link Boolean} list config response, as it was when this snapshot was taken.
+ @throws NotOfClassException If the selected config isn't a boolean list. */
+@Contract(pure=true)
+@ExternalUse
+public @NotNull List<Boolean> getAsBooleanList(@NotNull E instance) throws NotOfClassException {
+  int slot = slotOf(instance, SupportedClasses.BOOLEAN_LIST);
+  return (List<Boolean>) values.getValueAt(slot);
+}
+
+/**
+ @param instance The config to get the value of.
+ @return Gets an {@link Integer} list config response, as it was when this snapshot was taken.
+ @throws NotOfClassException If the selected config isn't an integer list. */
+@Contract(pure=true)
+@ExternalUse
+public @NotNull List<Integer> getAsIntegerList(@NotNull E instance) throws NotOfClassException {
+  int slot = slotOf(instance, SupportedClasses.INTEGER_LIST);
+  return (List<Integer>) values.getValueAt(slot);
+}
+
+/**
+ @param instance The config to get the value of.
+ @return Gets a {@link Double} list config response, as it was when this snapshot was taken.
+ @throws NotOfClassException If the selected config isn't a double list. */
+@Contract(pure=true)
+@ExternalUse
+public @NotNull List<Double> getAsDoubleList(@NotNull E instance) throws NotOfClassException {
+  int slot = slotOf(instance, SupportedClasses.DOUBLE_LIST);
+  return (List<Double>) values.getValueAt(slot);
+}
+
+/**
+ @param instance The config to get the value of.
+ @return Gets a {@link Float} list config response, as it was when this snapshot was taken.
+ @throws NotOfClassException If the selected config isn't a float list. */
+@Contract(pure=true)
+@ExternalUse
+public @NotNull List<Float> getAsFloatList(@NotNull E instance) throws NotOfClassException {
+  int slot = slotOf(instance, SupportedClasses.FLOAT_LIST);
+  return (List<Float>) values.getValueAt(slot);
+}
+
+/**
+ @param instance The config to get the value of.
+ @return Gets a {@link Short} list config response, as it was when this snapshot was taken.
+ @throws NotOfClassException If the selected config isn't a short list. */
+@Contract(pure=true)
+@ExternalUse
+public @NotNull List<Short> getAsShortList(@NotNull E instance) throws NotOfClassException {
+  int slot = slotOf(instance, SupportedClasses.SHORT_LIST);
+  return (List<Short>) values.getValueAt(slot);
+}
+
+/**
+ @param instance The config to get the value of.
+ @return Gets a {@link Long} list config response, as it was when this snapshot was taken.
+ @throws NotOfClassException If the selected config isn't a long list. */
+@Contract(pure=true)
+@ExternalUse
+public @NotNull List<Long> getAsLongList(@NotNull E instance) throws NotOfClassException {
+  int slot = slotOf(instance, SupportedClasses.LONG_LIST);
+  return (List<Long>) values.getValueAt(slot);
+}
+
+/**
+ @param instance The config to get the value of.
+ @return Gets a {@link Byte} list config response, as it was when this snapshot was taken.
+ @throws NotOfClassException If the selected config isn't a byte list. */
+@Contract(pure=true)
+@ExternalUse
+public @NotNull List<Byte> getAsByteList(@NotNull E instance) throws NotOfClassException {
+  int slot = slotOf(instance, SupportedClasses.BYTE_LIST);
+  return (List<Byte>) values.getValueAt(slot);
+}
+
+/**
+ @param instance The config to get the value of.
+ @return Gets a {@link Character} list config response, as it was when this snapshot was taken.
+ @throws NotOfClassException If the selected config isn't a character list. */
+@Contract(pure=true)
+@ExternalUse
+public @NotNull List<Character> getAsCharList(@NotNull E instance) throws NotOfClassException {
+  int slot = slotOf(instance, SupportedClasses.CHAR_LIST);
+  return (List<Character>) values.getValueAt(slot);
+}
+
+/**
+ @param instance The config to get the value of.
+ @return Gets a {@link LocalDateTime} list config response, as it was when this snapshot was taken.
+ @throws NotOfClassException If the selected config isn't a LocalDateTime list. */
+@Contract(pure=true)
+@ExternalUse
+public @NotNull List<LocalDateTime> getAsLocalDateTimeList(@NotNull E instance) throws NotOfClassException {
+  int slot = slotOf(instance, SupportedClasses.LOCAL_DATE_TIME_LIST);
+  return (List<LocalDateTime>) values.getValueAt(slot);
+}
+
+/**
+ @param instance The config to get the value of.
+ @return Gets an {@link OffsetDateTime} list config response, as it was when this snapshot was taken.
+ @throws NotOfClassException If the selected config isn't an OffsetDateTime list. */
+@Contract(pure=true)
+@ExternalUse
+public @NotNull List<OffsetDateTime> getAsOffsetDateTimeList(@NotNull E instance) throws NotOfClassException {
+  int slot = slotOf(instance, SupportedClasses.OFFSET_DATE_TIME_LIST);
+  return (List<OffsetDateTime>) values.getValueAt(slot);
+}
+
+/**
+ @param instance The config to get the value of.
+ @return Gets a {@link ZonedDateTime} list config response, as it was when this snapshot was taken.
+ @throws NotOfClassException If the selected config isn't a ZonedDateTime list. */
+@Contract(pure=true)
+@ExternalUse
+public @NotNull List<ZonedDateTime> getAsZonedDateTimeList(@NotNull E instance) throws NotOfClassException {
+  int slot = slotOf(instance, SupportedClasses.ZONED_DATE_TIME_LIST);
+  return (List<ZonedDateTime>) values.getValueAt(slot);
+}
+
+/**
+ @param instance The config to get the value of.
+ @return Gets a {@link ConfigObject} list config response, as it was when this snapshot was taken.
+ @throws NotOfClassException If the selected config isn't a ConfigObject list. */
+@Contract(pure=true)
+@ExternalUse
+public @NotNull List<ConfigObject> getAsConfigObjectList(@NotNull E instance) throws NotOfClassException {
+  int slot = slotOf(instance, SupportedClasses.CONFIG_OBJECT_LIST);
+  return (List<ConfigObject>) values.getValueAt(slot);
+}
+}
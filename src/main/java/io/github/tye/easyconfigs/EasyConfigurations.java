@@ -3,6 +3,11 @@ package io.github.tye.easyconfigs;
 import io.github.tye.easyconfigs.annotations.ExternalUse;
 import io.github.tye.easyconfigs.annotations.InternalUse;
 import io.github.tye.easyconfigs.exceptions.ConfigurationException;
+import io.github.tye.easyconfigs.exceptions.NotInitiatedException;
+import io.github.tye.easyconfigs.instances.Instance;
+import io.github.tye.easyconfigs.instances.InstanceRegistry;
+import io.github.tye.easyconfigs.instances.LocaleRegistry;
+import io.github.tye.easyconfigs.instances.ValueStore;
 import io.github.tye.easyconfigs.instances.persistent.PersistentConfigInstance;
 import io.github.tye.easyconfigs.instances.persistent.PersistentInstanceHandler;
 import io.github.tye.easyconfigs.instances.persistent.PersistentLangInstance;
@@ -12,12 +17,21 @@ import io.github.tye.easyconfigs.instances.reading.ReadingLangInstance;
 import io.github.tye.easyconfigs.internalConfigs.Config;
 import io.github.tye.easyconfigs.internalConfigs.Lang;
 import io.github.tye.easyconfigs.keys.KeyHandler;
+import io.github.tye.easyconfigs.keys.LangTemplate;
+import io.github.tye.easyconfigs.keys.RenderCache;
 import io.github.tye.easyconfigs.logger.EasyConfigurationsDefaultLogger;
 import io.github.tye.easyconfigs.logger.EasyConfigurationsLogger;
+import io.github.tye.easyconfigs.yamls.ReadYaml;
+import io.github.tye.easyconfigs.yamls.StreamedYaml;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
 
 /**
  This is the main class for EasyConfigurations. It contains the basic methods that control core
@@ -66,10 +80,32 @@ public static void overrideEasyConfigurationsLogger(@NotNull EasyConfigurationsL
 }
 
 
+/**
+ Sets the pool that the values of large enums are parsed on when they are registered. The values are
+ split across the pool &amp; parsed in parallel, which can speed up registering enums with many values
+ that take long to parse, such as lists of dates.<br> By default, no pool is set &amp; every value is
+ parsed on the thread registering the enum.
+ <p>
+ The registered values &amp; any thrown exception are the same whether a pool is set or not. Every
+ value of a {@link io.github.tye.easyconfigs.ConfigObject} is parsed by a new instance of it, so the
+ instances aren't shared between threads.
+ @param pool The pool to parse values on, or null to parse every value on the registering thread. */
+@ExternalUse
+public static void setParsingPool(@Nullable ForkJoinPool pool) {
+  ReadYaml.setParsingPool(pool);
+}
+
+
 // Read only configurations //
 
 /**
- Stores the information about the parsed read only config yaml. */
+ Stores the information about the most recently registered read only config yaml.
+ <p>
+ Every registered enum is kept in the {@link InstanceRegistry}, so registering another enum doesn't
+ stop the previous enums from working.
+ @deprecated Values are no longer read through this field, so assigning it doesn't change the values
+ of any enum. Register the enum again to replace its values. */
+@Deprecated
 @InternalUse
 public static @NotNull ReadingInstanceHandler readOnlyConfigInstance = new ReadingInstanceHandler();
 
@@ -99,11 +135,18 @@ public static void registerReadOnlyConfig(@NotNull Class<? extends ReadingConfig
   }
 
   readOnlyConfigInstance = new ReadingInstanceHandler(resourcePath, configEnum);
+  InstanceRegistry.register(configEnum, readOnlyConfigInstance);
 }
 
 
 /**
- Stores the information about the parsed read only lang yaml. */
+ Stores the information about the most recently registered read only lang yaml.
+ <p>
+ Every registered enum is kept in the {@link InstanceRegistry}, so registering another enum doesn't
+ stop the previous enums from working.
+ @deprecated Values are no longer read through this field, so assigning it doesn't change the values
+ of any enum. Register the enum again to replace its values. */
+@Deprecated
 @InternalUse
 public static @NotNull ReadingInstanceHandler readOnlyLangInstance = new ReadingInstanceHandler();
 
@@ -129,13 +172,20 @@ public static void registerReadOnlyLang(@NotNull Class<? extends ReadingLangInst
   }
 
   readOnlyLangInstance = new ReadingInstanceHandler(resourcePath, langEnum);
+  InstanceRegistry.register(langEnum, readOnlyLangInstance);
 }
 
 
 // Persistent configurations //
 
 /**
- Stores the information about the parsed persistent config yaml. */
+ Stores the information about the most recently registered persistent config yaml.
+ <p>
+ Every registered enum is kept in the {@link InstanceRegistry}, so registering another enum doesn't
+ stop the previous enums from working.
+ @deprecated Values are no longer read through this field, so assigning it doesn't change the values
+ of any enum. Register the enum again to replace its values. */
+@Deprecated
 @InternalUse
 public static @NotNull PersistentInstanceHandler persistentConfigInstance = new PersistentInstanceHandler();
 
@@ -169,11 +219,18 @@ public static void registerPersistentConfig(@NotNull Class<? extends PersistentC
   }
 
   persistentConfigInstance = new PersistentInstanceHandler(resourcePath, externalConfigFile, configEnum);
+  InstanceRegistry.register(configEnum, persistentConfigInstance);
 }
 
 
 /**
- Stores the information about the parsed persistent lang yaml. */
+ Stores the information about the most recently registered persistent lang yaml.
+ <p>
+ Every registered enum is kept in the {@link InstanceRegistry}, so registering another enum doesn't
+ stop the previous enums from working.
+ @deprecated Values are no longer read through this field, so assigning it doesn't change the values
+ of any enum. Register the enum again to replace its values. */
+@Deprecated
 @InternalUse
 public static @NotNull PersistentInstanceHandler persistentLangInstance = new PersistentInstanceHandler();
 
@@ -207,6 +264,224 @@ public static void registerPersistentLang(@NotNull Class<? extends PersistentLan
   }
 
   persistentLangInstance = new PersistentInstanceHandler(resourcePath, externalLangFile, langEnum);
+  InstanceRegistry.register(langEnum, persistentLangInstance);
+}
+
+
+// Snapshots //
+
+/**
+ Takes an immutable snapshot of every value of the given registered enum.
+ <p>
+ All the values are captured at the same moment, so reading multiple values from the snapshot will
+ never mix values from before &amp; after a value was replaced. The enum is only resolved once, so
+ reading from the snapshot is faster than reading the values one at a time.
+ @param instanceEnum The class of your config or lang enum.
+ @param <E>          The class of your config or lang enum.
+ @return A snapshot of the current values of the given enum.
+ @throws NotInitiatedException    If the given enum hasn't been registered.
+ @throws NullPointerException     If the given class is null.
+ @throws IllegalArgumentException If the given class doesn't represent an enum. */
+@ExternalUse
+public static <E extends Instance> @NotNull ConfigSnapshot<E> snapshot(@NotNull Class<E> instanceEnum) throws NotInitiatedException, NullPointerException, IllegalArgumentException {
+  NullCheck.notNull(instanceEnum, "Instance enum");
+
+  if (!instanceEnum.isEnum()) {
+    throw new IllegalArgumentException(Lang.notAnEnum(Classes.getName(instanceEnum)));
+  }
+
+  Object handler = InstanceRegistry.getHandler(instanceEnum);
+
+  ValueStore values;
+  if (handler instanceof PersistentInstanceHandler) values = ((PersistentInstanceHandler) handler).getValues();
+  else if (handler instanceof ReadingInstanceHandler) values = ((ReadingInstanceHandler) handler).getValues();
+  else throw new NotInitiatedException();
+
+  return new ConfigSnapshot<>(values);
+}
+
+
+// Lang render caches //
+
+/**
+ Caches the responses of the given registered lang enum, so rendering a lang with the same keys &amp;
+ values again doesn't need to render the response again.
+ <p>
+ Responses are cached by the lang &amp; the values its keys are replaced with. When the cache
+ contains the given maximum amount of responses, the response that was used least recently is
+ removed. Replacing the value of a persistent lang removes its cached responses.
+ <p>
+ The cache is removed if the enum is registered again.
+ @param langEnum The class of your lang enum.
+ @param maxSize  The maximum amount of responses to cache.
+ @return The cache, which contains the amount of cache hits &amp; misses.
+ @throws NotInitiatedException    If the given enum hasn't been registered.
+ @throws NullPointerException     If the given class is null.
+ @throws IllegalArgumentException If the given class isn't a lang enum, or the maximum size isn't
+                                  positive. */
+@ExternalUse
+public static @NotNull RenderCache enableRenderCache(@NotNull Class<? extends Instance> langEnum, int maxSize) throws NotInitiatedException, NullPointerException, IllegalArgumentException {
+  NullCheck.notNull(langEnum, "Lang enum");
+
+  if (!ReadingLangInstance.class.isAssignableFrom(langEnum) && !PersistentLangInstance.class.isAssignableFrom(langEnum)) {
+    throw new IllegalArgumentException(Lang.notALangEnum(Classes.getName(langEnum)));
+  }
+  if (maxSize <= 0) {
+    throw new IllegalArgumentException(Lang.notPositive("maximum cache size", maxSize));
+  }
+
+  RenderCache renderCache = new RenderCache(maxSize);
+  setRenderCache(langEnum, renderCache);
+  return renderCache;
+}
+
+/**
+ Stops caching the responses of the given registered lang enum.
+ @param langEnum The class of your lang enum.
+ @throws NotInitiatedException If the given enum hasn't been registered.
+ @throws NullPointerException  If the given class is null. */
+@ExternalUse
+public static void disableRenderCache(@NotNull Class<? extends Instance> langEnum) throws NotInitiatedException, NullPointerException {
+  NullCheck.notNull(langEnum, "Lang enum");
+  setRenderCache(langEnum, null);
+}
+
+/**
+ Sets the render cache of the handler registered for the given enum.
+ @param instanceEnum The given enum.
+ @param renderCache  The cache to set, or null to stop caching.
+ @throws NotInitiatedException If the given enum hasn't been registered. */
+@InternalUse
+private static void setRenderCache(@NotNull Class<? extends Instance> instanceEnum, @Nullable RenderCache renderCache) throws NotInitiatedException {
+  Object handler = InstanceRegistry.getHandler(instanceEnum);
+
+  if (handler instanceof PersistentInstanceHandler) ((PersistentInstanceHandler) handler).setRenderCache(renderCache);
+  else if (handler instanceof ReadingInstanceHandler) ((ReadingInstanceHandler) handler).setRenderCache(renderCache);
+  else throw new NotInitiatedException();
+}
+
+// Lang locales //
+
+/**
+ Registers the lang values of the given locale for the given registered lang enum. The lang enum
+ must be registered before its locales are.
+ <p>
+ A locale doesn't need to contain every lang value. A missing value is taken from the closest locale
+ that contains it, e.g. "de_AT" falls back to "de", which falls back to the values the lang enum was
+ registered with. The fallbacks are resolved when the locale is registered, so getting a lang for a
+ locale doesn't search through the fallbacks.
+ <p>
+ Locale values are read only, even for persistent lang. The locales are removed if the enum is
+ registered again.
+ @param langEnum     The class of your lang enum.
+ @param locale       The locale the values are for.
+ @param resourcePath The path to the yaml file within the resource folder that contains the lang
+                     values of the locale.
+ @throws ConfigurationException   If the yaml has an error, or a value isn't a string.
+ @throws IOException              If there was an error reading the input stream, or if the given
+                                  path doesn't lead to any files.
+ @throws NotInitiatedException    If the given enum hasn't been registered.
+ @throws NullPointerException     If any of the arguments are null.
+ @throws IllegalArgumentException If the given class isn't a lang enum. */
+@ExternalUse
+public static void registerLangLocale(@NotNull Class<? extends Instance> langEnum, @NotNull Locale locale, @NotNull String resourcePath) throws IOException, ConfigurationException, NotInitiatedException, NullPointerException, IllegalArgumentException {
+  NullCheck.notNull(langEnum, "Lang enum");
+  NullCheck.notNull(locale, "Locale");
+  NullCheck.notNull(resourcePath, "Resource path");
+
+  LocaleRegistry locales = getLocales(langEnum);
+
+  LangTemplate[] values;
+  try (InputStream inputStream = langEnum.getResourceAsStream(resourcePath)) {
+    if (inputStream == null) throw new IOException(Lang.configNotReadable(resourcePath));
+
+    ReadYaml yaml = new StreamedYaml(inputStream);
+    yaml.warnUnusedKeys(langEnum, resourcePath);
+    values = yaml.parseLocaleValues(langEnum, resourcePath);
+  }
+
+  locales.add(locale, values);
+}
+
+/**
+ Registers the lang values of the given locale for the given registered lang enum, without reading
+ them. The values are read the first time a lang is retrieved for the locale, or for a locale that
+ falls back to it. This way only the locales that are used take up time &amp; memory.
+ <p>
+ If the yaml can't be read or parsed when it's first used, then an error is logged &amp; the values of
+ its fallbacks are used instead.
+ <p>
+ Locale values are read only, even for persistent lang. The locales are removed if the enum is
+ registered again.
+ @param langEnum     The class of your lang enum.
+ @param locale       The locale the values are for.
+ @param resourcePath The path to the yaml file within the resource folder that contains the lang
+                     values of the locale.
+ @throws IOException              If the given path doesn't lead to any files.
+ @throws NotInitiatedException    If the given enum hasn't been registered.
+ @throws NullPointerException     If any of the arguments are null.
+ @throws IllegalArgumentException If the given class isn't a lang enum.
+ @see #setLocaleIdleTimeout(Class, long, TimeUnit) */
+@ExternalUse
+public static void registerLazyLangLocale(@NotNull Class<? extends Instance> langEnum, @NotNull Locale locale, @NotNull String resourcePath) throws IOException, NotInitiatedException, NullPointerException, IllegalArgumentException {
+  NullCheck.notNull(langEnum, "Lang enum");
+  NullCheck.notNull(locale, "Locale");
+  NullCheck.notNull(resourcePath, "Resource path");
+
+  LocaleRegistry locales = getLocales(langEnum);
+
+  if (langEnum.getResource(resourcePath) == null) {
+    throw new IOException(Lang.configNotReadable(resourcePath));
+  }
+
+  locales.addLazy(locale, langEnum, resourcePath);
+}
+
+/**
+ Sets the time that a lazily registered locale of the given registered lang enum can go unused for,
+ before its values are removed from memory. The values are read again the next time the locale is
+ used. By default, lazily registered locales are never removed.
+ <p>
+ Locales registered with {@link #registerLangLocale(Class, Locale, String)} are never removed.
+ @param langEnum    The class of your lang enum.
+ @param idleTimeout The time a locale can go unused for.
+ @param unit        The unit of the idle timeout.
+ @throws NotInitiatedException    If the given enum hasn't been registered.
+ @throws NullPointerException     If any of the arguments are null.
+ @throws IllegalArgumentException If the given class isn't a lang enum, or the idle timeout isn't
+                                  positive. */
+@ExternalUse
+public static void setLocaleIdleTimeout(@NotNull Class<? extends Instance> langEnum, long idleTimeout, @NotNull TimeUnit unit) throws NotInitiatedException, NullPointerException, IllegalArgumentException {
+  NullCheck.notNull(langEnum, "Lang enum");
+  NullCheck.notNull(unit, "Time unit");
+
+  if (idleTimeout <= 0) {
+    throw new IllegalArgumentException(Lang.notPositive("locale idle timeout", idleTimeout));
+  }
+
+  getLocales(langEnum).setIdleTimeout(unit.toNanos(idleTimeout));
+}
+
+/**
+ Gets the locales of the handler registered for the given lang enum.
+ @param langEnum The given lang enum.
+ @return The locales of the given lang enum.
+ @throws NotInitiatedException    If the given enum hasn't been registered.
+ @throws IllegalArgumentException If the given class isn't a lang enum. */
+@InternalUse
+private static @NotNull LocaleRegistry getLocales(@NotNull Class<? extends Instance> langEnum) throws NotInitiatedException, IllegalArgumentException {
+  if (!langEnum.isEnum()) {
+    throw new IllegalArgumentException(Lang.notAnEnum(Classes.getName(langEnum)));
+  }
+  if (!ReadingLangInstance.class.isAssignableFrom(langEnum) && !PersistentLangInstance.class.isAssignableFrom(langEnum)) {
+    throw new IllegalArgumentException(Lang.notALangEnum(Classes.getName(langEnum)));
+  }
+
+  Object handler = InstanceRegistry.getHandler(langEnum);
+
+  if (handler instanceof PersistentInstanceHandler) return ((PersistentInstanceHandler) handler).getLocales();
+  if (handler instanceof ReadingInstanceHandler) return ((ReadingInstanceHandler) handler).getLocales();
+  throw new NotInitiatedException();
 }
 
-}
\ No newline at end of file
+}
@@ -5,13 +5,27 @@ import io.github.tye.easyconfigs.exceptions.ConfigurationException;
 import io.github.tye.easyconfigs.exceptions.InvalidDataException;
 import io.github.tye.easyconfigs.exceptions.NotOfClassException;
 import io.github.tye.easyconfigs.internalConfigs.Lang;
+import io.github.tye.easyconfigs.lists.ByteList;
+import io.github.tye.easyconfigs.lists.DoubleList;
+import io.github.tye.easyconfigs.lists.IntList;
+import io.github.tye.easyconfigs.lists.LongList;
+import io.github.tye.easyconfigs.lists.ObjectList;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Array;
+import java.text.ParsePosition;
+import java.time.DateTimeException;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalQuery;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -71,6 +85,22 @@ public @NotNull Class<?>[] getClasses() {
   return classes;
 }
 
+/**
+ Gets the names of the classes that this enum represents.
+ @return The names of the classes that this enum represents, each followed by a space. */
+@Contract(pure=true)
+@InternalUse
+public @NotNull String getClassNames() {
+  StringBuilder classNames = new StringBuilder();
+
+  for (Class<?> clazz : classes) {
+    classNames.append(Classes.getName(clazz))
+              .append(" ");
+  }
+
+  return classNames.toString();
+}
+
 /**
  Checks if this enum represents an array.
  @return True is the enum represents a form of array. False otherwise. */
@@ -89,575 +119,464 @@ public boolean representsArray() {
 @Contract(pure=true)
 @InternalUse
 public boolean canParse(@NotNull Object rawValue) {
-  // Parsing is handled differently for array & non-array values.
-  if (this.representsArray()) {
-    return canParseArray(rawValue);
-  }
-  else {
-    return canParseNonArray(rawValue);
-  }
+  return tryParse(rawValue) != null;
 }
 
-
 /**
- If this method is used on an array enum then it will always return false.<br> Checks if the given
- value can be parsed as the class this enum represents.
+ Parses the give value to the class specified by this enum.
  @param rawValue The given value.
- @return True if it can be parsed.<br> False only if the value cannot be parsed as its intended class
- or if the value is one EasyConfigurations hasn't accounted for. */
-@SuppressWarnings("ResultOfMethodCallIgnored")
-// Just checks if they can be parsed.
-@Contract(pure=true)
+ @return The value as its intended object.
+ @throws NotOfClassException If the object passed in can't be parsed as a class this enum
+ represents. */
 @InternalUse
-private boolean canParseNonArray(@NotNull Object rawValue) {
-  // Tries to parse the string value of the object based on the enum.
-  // If there is an error parsing, then it's caught & false is returned.
-  // If it parses successfully, then true is returned.
-  try {
-    String value = rawValue.toString();
-
-    switch (this) {
-
-    // String & Boolean are handled uniquely due to the behaviour or their respective parsing method.
-    case STRING: {
-      if (rawValue instanceof String) {
-        return true;
-      }
-    }
-    case BOOLEAN: {
-      return value.equalsIgnoreCase("true") || value.equalsIgnoreCase("false");
-    }
-
-    case INTEGER: {
-      Integer.parseInt(value);
-      return true;
-    }
-    case DOUBLE: {
-      Double.parseDouble(value);
-      return true;
-    }
-    case FLOAT: {
-      Float.parseFloat(value);
-      return true;
-    }
-    case SHORT: {
-      Short.parseShort(value);
-      return true;
-    }
-    case LONG: {
-      Long.parseLong(value);
-      return true;
-    }
-    case BYTE: {
-      Byte.parseByte(value);
-      return true;
-    }
-    case CHAR: {
-      return value.length() == 1;
-    }
-    case LOCAL_DATE_TIME: {
-      LocalDateTime.parse(value);
-      return true;
-    }
-    case OFFSET_DATE_TIME: {
-      OffsetDateTime.parse(value);
-      return true;
-    }
-    case ZONED_DATE_TIME: {
-      ZonedDateTime.parse(value);
-      return true;
-    }
-    }
-
-  }
-  // If there was an error parsing the value then it isn't a valid value.
-  catch (Exception ignore) {}
+public @NotNull Object parse(@NotNull Object rawValue) throws NotOfClassException {
+  Object parsedValue = tryParse(rawValue);
+  if (parsedValue != null) return parsedValue;
 
-  return false;
+  String value = representsArray() ? Classes.getName(rawValue.getClass()) : rawValue.toString();
+  throw new NotOfClassException(Lang.notOfClass(value, this.toString()));
 }
 
 /**
- If this method is used on a non-array enum then it will always return false.<br> Checks if the given
- value can be parsed as the class this enum represents.
- @param rawValue The given array or List value.
- @return True if it can be parsed.<br> False only if the value cannot be parsed as its intended class
- or if the value is one EasyConfigurations hasn't accounted for. */
+ Parses the given value to the class specified by this enum, if it can be parsed.
+ <p>
+ The value is checked &amp; converted in a single pass, &amp; invalid values don't throw any
+ exceptions. So this should be used instead of {@link #canParse(Object)} followed by
+ {@link #parse(Object)}.
+ @param rawValue The given value.
+ @return The value as its intended object, or null if it can't be parsed as its intended class. */
 @Contract(pure=true)
 @InternalUse
-private boolean canParseArray(@NotNull Object rawValue) {
-  List<String> value;
-
-  try {
-    value = toList(rawValue);
-
-    // If there was an error attempting to parse the input then it wasn't an array or list.
-  }
-  catch (Exception ignore) {
-    return false;
+public @Nullable Object tryParse(@NotNull Object rawValue) {
+  // Parsing is handled differently for array & non-array values.
+  if (this.representsArray()) {
+    return tryParseArray(rawValue);
   }
-
-
-  // Checks that all the objects within the list can be parsed as their intended class.
-  for (String stringValue : value) {
-    boolean couldParseValue = false;
-
-    switch (this) {
-
-    case STRING_LIST: {
-      couldParseValue = STRING.canParseNonArray(stringValue);
-      break;
-    }
-    case BOOLEAN_LIST: {
-      couldParseValue = BOOLEAN.canParseNonArray(stringValue);
-      break;
-    }
-    case INTEGER_LIST: {
-      couldParseValue = INTEGER.canParseNonArray(stringValue);
-      break;
-    }
-    case DOUBLE_LIST: {
-      couldParseValue = DOUBLE.canParseNonArray(stringValue);
-      break;
-    }
-    case FLOAT_LIST: {
-      couldParseValue = FLOAT.canParseNonArray(stringValue);
-      break;
-    }
-    case SHORT_LIST: {
-      couldParseValue = SHORT.canParseNonArray(stringValue);
-      break;
-    }
-    case LONG_LIST: {
-      couldParseValue = LONG.canParseNonArray(stringValue);
-      break;
-    }
-    case BYTE_LIST: {
-      couldParseValue = BYTE.canParseNonArray(stringValue);
-      break;
-    }
-    case CHAR_LIST: {
-      couldParseValue = CHAR.canParseNonArray(stringValue);
-      break;
-    }
-    case LOCAL_DATE_TIME_LIST: {
-      couldParseValue = LOCAL_DATE_TIME.canParseNonArray(stringValue);
-      break;
-    }
-    case OFFSET_DATE_TIME_LIST: {
-      couldParseValue = OFFSET_DATE_TIME.canParseNonArray(stringValue);
-      break;
-    }
-    case ZONED_DATE_TIME_LIST: {
-      couldParseValue = ZONED_DATE_TIME.canParseNonArray(stringValue);
-      break;
-    }
-    }
-
-    if (!couldParseValue) return false;
+  else {
+    return tryParseNonArray(rawValue);
   }
-
-  // True is returned since to make it to here parsing must be successful every time.
-  // Or the list was empty.
-  return true;
 }
 
-
 /**
- Checks if the given class is a class {@link #CONFIG_OBJECT} or {@link #CONFIG_OBJECT_LIST} enums
- represent. And if the given value can be parsed as the represented class.
- @param customClazz The marked class of the value.
- @param rawValue    The given value.
- @return True if it can be parsed.<br> False only if the value cannot be parsed as its intended class
- or if the value is one EasyConfigurations hasn't accounted for.
- @throws ConfigurationException If the given class doesn't extend {@link ConfigObject} and doesn't
- have a public default constructor. */
-@SuppressWarnings({"UnreachableCode", "unchecked"})
-// The code is reachable as the unchecked cast may fail.
+ If this method is used on an array enum then it will always return null.
+ <p>
+ Parses the given value as the class this enum represents, if it can be parsed.
+ @param rawValue The given value.
+ @return The value as its intended object, or null if it can't be parsed. */
+@Contract(pure=true)
 @InternalUse
-public boolean canParseCustom(@NotNull Class<?> customClazz, @NotNull Object rawValue) throws ConfigurationException {
-  // If the class is an array then it won't get the correct constructor.
-  customClazz = Classes.getComponent(customClazz);
+private @Nullable Object tryParseNonArray(@NotNull Object rawValue) {
+  String value = rawValue.toString();
 
-  // Does manual casting here so input sanitation doesn't need to be performed.
-  // Either way this error shouldn't be thrown as validation is performed before.
-  Class<? extends ConfigObject> configClass;
-  try {
-    configClass = (Class<? extends ConfigObject>) customClazz;
+  switch (this) {
+
+  // String & Boolean are handled uniquely due to the behaviour or their respective parsing method.
+  case STRING: {
+    if (rawValue instanceof String) {
+      return value;
+    }
   }
-  catch (ClassCastException e) {
-    throw new ConfigurationException(Lang.classNotSupported(Classes.getName(customClazz)));
+  case BOOLEAN: {
+    if (value.equalsIgnoreCase("true")) return true;
+    if (value.equalsIgnoreCase("false")) return false;
+    return null;
   }
 
-  // If this enum doesn't represent a custom object, it can't be parsed as such.
-  if (this != CONFIG_OBJECT && this != CONFIG_OBJECT_LIST) {
-    return false;
+  // The values are checked before they are parsed, so the parse methods never throw.
+  case INTEGER: {
+    return isWholeNumber(value, Integer.MIN_VALUE, Integer.MAX_VALUE) ? Integer.parseInt(value) : null;
   }
-
-  // Creates a new instance of the config class.
-  // If it can't be created then there is an unrecoverable error.
-  ConfigObject configObject;
-  try {
-    configObject = configClass.getConstructor().newInstance();
+  case DOUBLE: {
+    return isDecimal(value) ? Double.parseDouble(value) : null;
   }
-  catch (Exception e) {
-    throw new ConfigurationException(Lang.missingDefaultConstructor(Classes.getName(configClass)));
+  case FLOAT: {
+    return isDecimal(value) ? Float.parseFloat(value) : null;
   }
-
-  // Parsing is handled differently for array & non-array values.
-  if (this.representsArray()) {
-    return this.canParseCustomArray(configObject, rawValue);
+  case SHORT: {
+    return isWholeNumber(value, Short.MIN_VALUE, Short.MAX_VALUE) ? Short.parseShort(value) : null;
   }
-  else {
-    return this.canParseCustomNonArray(configObject, rawValue);
+  case LONG: {
+    return isWholeNumber(value, Long.MIN_VALUE, Long.MAX_VALUE) ? Long.parseLong(value) : null;
+  }
+  case BYTE: {
+    return isWholeNumber(value, Byte.MIN_VALUE, Byte.MAX_VALUE) ? Byte.parseByte(value) : null;
+  }
+  case CHAR: {
+    return value.length() == 1 ? value.charAt(0) : null;
   }
+  case LOCAL_DATE_TIME: {
+    return tryParseDateTime(value, DateTimeFormatter.ISO_LOCAL_DATE_TIME, LocalDateTime::from);
+  }
+  case OFFSET_DATE_TIME: {
+    return tryParseDateTime(value, DateTimeFormatter.ISO_OFFSET_DATE_TIME, OffsetDateTime::from);
+  }
+  case ZONED_DATE_TIME: {
+    return tryParseDateTime(value, DateTimeFormatter.ISO_ZONED_DATE_TIME, ZonedDateTime::from);
+  }
+  }
+
+  return null;
 }
 
 /**
- If this method is used on an array enum then it will always return false.
+ If this method is used on a non-array enum then it will always return null.
  <p>
- Checks if the given value can be parsed as a {@link #CONFIG_OBJECT}.
- @param configObject An initialized object of the value's marked class.
- @param rawValue     The given value.
- @return True if it can be parsed.<br> False only if the value cannot be parsed as its intended class
- or if the value is one EasyConfigurations hasn't accounted for. */
-private boolean canParseCustomNonArray(@NotNull ConfigObject configObject, @NotNull Object rawValue) {
-  if (rawValue instanceof ConfigObject) return true;
+ Parses the given value as the class this enum represents, if every value within it can be parsed.
+ @param rawValue The given array or List value.
+ @return The value as its intended object, or null if it can't be parsed. */
+@Contract(pure=true)
+@InternalUse
+private @Nullable Object tryParseArray(@NotNull Object rawValue) {
+  List<String> stringsToParse = toList(rawValue);
+  if (stringsToParse == null) return null;
 
-  try {
-    configObject.parseConfigString(rawValue.toString());
-    return true;
+  // Lists of these classes are stored in primitive arrays, so every value isn't stored boxed.
+  switch (this) {
+
+  case INTEGER_LIST: {
+    int[] values = new int[stringsToParse.size()];
+    for (int i = 0; i < values.length; i++) {
+      String value = stringsToParse.get(i);
+      if (!isWholeNumber(value, Integer.MIN_VALUE, Integer.MAX_VALUE)) return null;
+      values[i] = Integer.parseInt(value);
+    }
+    return new IntList(values);
+  }
+  case LONG_LIST: {
+    long[] values = new long[stringsToParse.size()];
+    for (int i = 0; i < values.length; i++) {
+      String value = stringsToParse.get(i);
+      if (!isWholeNumber(value, Long.MIN_VALUE, Long.MAX_VALUE)) return null;
+      values[i] = Long.parseLong(value);
+    }
+    return new LongList(values);
+  }
+  case DOUBLE_LIST: {
+    double[] values = new double[stringsToParse.size()];
+    for (int i = 0; i < values.length; i++) {
+      String value = stringsToParse.get(i);
+      if (!isDecimal(value)) return null;
+      values[i] = Double.parseDouble(value);
+    }
+    return new DoubleList(values);
+  }
+  case BYTE_LIST: {
+    byte[] values = new byte[stringsToParse.size()];
+    for (int i = 0; i < values.length; i++) {
+      String value = stringsToParse.get(i);
+      if (!isWholeNumber(value, Byte.MIN_VALUE, Byte.MAX_VALUE)) return null;
+      values[i] = Byte.parseByte(value);
+    }
+    return new ByteList(values);
   }
-  catch (InvalidDataException ignore) {
-    return false;
   }
-}
 
-/**
- If this method is used on a non-array enum then it will always return false.
- <p>
- Checks if the given value can be parsed as a {@link #CONFIG_OBJECT_LIST}.
- @param configObject An initialized object of the value's marked class.
- @param rawValue     The given array or List value.
- @return True if it can be parsed.<br> False only if the value cannot be parsed as its intended class
- or if the value is one EasyConfigurations hasn't accounted for. */
-private boolean canParseCustomArray(@NotNull ConfigObject configObject, @NotNull Object rawValue) {
-  try {
-    List<String> stringList = toList(rawValue);
+  SupportedClasses elementClass = getElementClass();
+  if (elementClass == null) return null;
 
-    for (String value : stringList) {
-      canParseCustomNonArray(configObject, value);
-    }
+  // The parsed values are stored in an array sized exactly to the list, which is never modified.
+  Object[] outputValues = new Object[stringsToParse.size()];
 
-    return true;
-  }
-  catch (Exception ignore) {
-    return false;
+  for (int i = 0; i < outputValues.length; i++) {
+    Object parsedValue = elementClass.tryParseNonArray(stringsToParse.get(i));
+    if (parsedValue == null) return null;
+
+    outputValues[i] = parsedValue;
   }
+
+  return new ObjectList<>(outputValues);
 }
 
 /**
- Parses the give value to the class specified by this enum.<br>
- <br>
- Note: {@link #canParse(Object)} should be performed first to check if the object can be parsed.
- @param rawValue The given value.
- @return The value as its intended object. Or just the object if someone (me) forgot to add an enum
- to this method.
- @throws NotOfClassException If the object passed in isn't of a class this enum represents. */
+ Gets the enum that represents the values within the lists this enum represents.
+ @return The enum of the values within the lists, or null if this enum doesn't represent a list of
+ values that can be parsed without a custom class. */
+@Contract(pure=true)
 @InternalUse
-public @NotNull Object parse(@NotNull Object rawValue) throws NotOfClassException {
-  // Parsing is handled differently for array & non-array values.
-  if (this.representsArray()) {
-    return parseArray(rawValue);
-  }
-  else {
-    return parseNonArray(rawValue);
+private @Nullable SupportedClasses getElementClass() {
+  switch (this) {
+  case STRING_LIST: return STRING;
+  case BOOLEAN_LIST: return BOOLEAN;
+  case FLOAT_LIST: return FLOAT;
+  case SHORT_LIST: return SHORT;
+  case CHAR_LIST: return CHAR;
+  case LOCAL_DATE_TIME_LIST: return LOCAL_DATE_TIME;
+  case OFFSET_DATE_TIME_LIST: return OFFSET_DATE_TIME;
+  case ZONED_DATE_TIME_LIST: return ZONED_DATE_TIME;
+  default: return null;
   }
 }
 
+
 /**
- If this method is used on an array enum then it will always throw {@link NotOfClassException}.
- <p>
- Parses the given value as the class this enum represents.
- @param rawValue The given value.
- @return The value as its intended object.
- @throws NotOfClassException If the object passed in isn't of a class this enum represents. */
+ Contains the public default constructor of each config object class, so the constructor is only
+ looked up with reflection once for each class. Classes without a public default constructor contain
+ null. */
 @InternalUse
-private @NotNull Object parseNonArray(@NotNull Object rawValue) throws NotOfClassException {
-  String value = rawValue.toString();
+private static final @NotNull ClassValue<MethodHandle> constructors = new ClassValue<MethodHandle>() {
+  @Override
+  protected @Nullable MethodHandle computeValue(@NotNull Class<?> type) {
+    if (!ConfigObject.class.isAssignableFrom(type)) return null;
 
-  try {
-    // Parses the non-array values //
-    switch (this) {
-
-    // String & Boolean are handled uniquely due to the behaviour or their respective parsing method.
-    case STRING: {
-      if (rawValue instanceof String) {
-        return value;
-      }
-    }
-    case BOOLEAN: {
-      if (value.equalsIgnoreCase("true")) return true;
-      if (value.equalsIgnoreCase("false")) return false;
-      throw new RuntimeException(); // The boolean value can't be parse so throw an error that will be caught & formatted.
-    }
-
-    case INTEGER: {
-      return Integer.parseInt(value);
-    }
-    case DOUBLE: {
-      return Double.parseDouble(value);
-    }
-    case FLOAT: {
-      return Float.parseFloat(value);
-    }
-    case SHORT: {
-      return Short.parseShort(value);
-    }
-    case LONG: {
-      return Long.parseLong(value);
+    try {
+      MethodHandle constructor = MethodHandles.publicLookup().unreflectConstructor(type.getConstructor());
+      return constructor.asType(MethodType.methodType(ConfigObject.class));
     }
-    case BYTE: {
-      return Byte.parseByte(value);
+    catch (ReflectiveOperationException ignore) {
+      return null;
     }
-    case CHAR: {
-      return value.charAt(0);
-    }
-    case LOCAL_DATE_TIME: {
-      return LocalDateTime.parse(value);
-    }
-    case OFFSET_DATE_TIME: {
-      return OffsetDateTime.parse(value);
-    }
-    case ZONED_DATE_TIME: {
-      return ZonedDateTime.parse(value);
-    }
-    }
-
-  }
-  catch (RuntimeException e) {
-    throw new NotOfClassException(Lang.notOfClass(value, this.toString()));
   }
+};
 
-  return value;
+/**
+ Checks if the given class is a class {@link #CONFIG_OBJECT} or {@link #CONFIG_OBJECT_LIST} enums
+ represent. And if the given value can be parsed as the represented class.
+ @param customClazz The marked class of the value.
+ @param rawValue    The given value.
+ @return True if it can be parsed.<br> False only if the value cannot be parsed as its intended class
+ or if the value is one EasyConfigurations hasn't accounted for.
+ @throws ConfigurationException If the given class doesn't extend {@link ConfigObject} and doesn't
+ have a public default constructor. */
+@InternalUse
+public boolean canParseCustom(@NotNull Class<?> customClazz, @NotNull Object rawValue) throws ConfigurationException {
+  return tryParseCustom(customClazz, rawValue) != null;
 }
 
 /**
- If this method is used on a non-array enum then it will always throw {@link NotOfClassException}.
- <p>
- Parses the given value as the class this enum represents.
- @param value The given array or List value.
+ Parses the given value as a custom {@link ConfigObject}.
+ @param customClazz The marked class of the value.
+ @param rawValue    The given value.
  @return The value as its intended object.
- @throws NotOfClassException If the object passed in isn't of a class this enum represents. */
+ @throws NotOfClassException    If the object passed in can't be parsed as a class this enum
+ represents.
+ @throws ConfigurationException If the given class doesn't implement {@link ConfigObject}. */
 @InternalUse
-private @NotNull Object parseArray(@NotNull Object value) throws NotOfClassException {
-  try {
-    List<String> stringsToParse;
-    stringsToParse = toList(value);
-
-    List<Object> outputList = new ArrayList<>(stringsToParse.size());
-
-    // Parses all the objects within the list.
-    for (String str : stringsToParse) {
-      switch (this) {
-
-      case STRING_LIST: {
-        outputList.add(STRING.parse(str));
-        break;
-      }
-      case BOOLEAN_LIST: {
-        outputList.add(BOOLEAN.parse(str));
-        break;
-      }
-      case INTEGER_LIST: {
-        outputList.add(INTEGER.parse(str));
-        break;
-      }
-      case DOUBLE_LIST: {
-        outputList.add(DOUBLE.parse(str));
-        break;
-      }
-      case FLOAT_LIST: {
-        outputList.add(FLOAT.parse(str));
-        break;
-      }
-      case SHORT_LIST: {
-        outputList.add(SHORT.parse(str));
-        break;
-      }
-      case LONG_LIST: {
-        outputList.add(LONG.parse(str));
-        break;
-      }
-      case BYTE_LIST: {
-        outputList.add(BYTE.parse(str));
-        break;
-      }
-      case CHAR_LIST: {
-        outputList.add(CHAR.parse(str));
-        break;
-      }
-      case LOCAL_DATE_TIME_LIST: {
-        outputList.add(LOCAL_DATE_TIME.parse(str));
-        break;
-      }
-      case OFFSET_DATE_TIME_LIST: {
-        outputList.add(OFFSET_DATE_TIME.parse(str));
-        break;
-      }
-      case ZONED_DATE_TIME_LIST: {
-        outputList.add(ZONED_DATE_TIME.parse(str));
-        break;
-      }
-
-      // If the switch statement can't match any of the above conditions then the object is invalid.
-      default: {
-        String className = Classes.getName(value.getClass());
-        throw new NotOfClassException(Lang.notOfClass(className, this.toString()));
-      }
-      }
-    }
-
-    return outputList;
+public @NotNull Object parseCustom(@NotNull Class<?> customClazz, @NotNull Object rawValue) throws NotOfClassException, ConfigurationException {
+  // If this enum doesn't represent a custom object, it can't be parsed as such.
+  if (this != CONFIG_OBJECT && this != CONFIG_OBJECT_LIST) {
+    throw new NotOfClassException(Lang.notOfClass(Classes.getName(Classes.getComponent(customClazz)), CONFIG_OBJECT + " or " + CONFIG_OBJECT_LIST));
   }
-  // Catches any exceptions & then formats them.
-  catch (NotOfClassException | IllegalArgumentException e) {
 
-    // If it's a NotOfClassException thrown by one of the parse methods then just throw that.
-    if (e.getClass().equals(NotOfClassException.class)) throw e;
+  Object parsedValue = tryParseCustom(customClazz, rawValue);
+  if (parsedValue != null) return parsedValue;
 
-    // Else create a new NotOfClassException exception.
-    String className = Classes.getName(value.getClass());
-    throw new NotOfClassException(Lang.notOfClass(className, this.toString()));
-  }
+  String className = Classes.getName(rawValue.getClass());
+  throw new NotOfClassException(Lang.notOfClass(className, CONFIG_OBJECT.toString()));
 }
 
-
 /**
- Parses the given value as a custom {@link ConfigObject}.
+ Parses the given value as a custom {@link ConfigObject}, if it can be parsed.
  <p>
- Note: {@link #canParseCustom(Class, Object)} should be performed first to check if the object can be
- parsed.
+ The value is checked &amp; converted in a single pass, so this should be used instead of
+ {@link #canParseCustom(Class, Object)} followed by {@link #parseCustom(Class, Object)}.
  @param customClazz The marked class of the value.
  @param rawValue    The given value.
- @return The value as its intended object.
- @throws NotOfClassException    If the object passed in isn't of a class this enum represents.
- @throws ConfigurationException If the given class doesn't implement {@link ConfigObject}. */
-@SuppressWarnings({"UnreachableCode", "unchecked"})
-// The code is reachable as the unchecked cast may fail.
+ @return The value as its intended object, or null if it can't be parsed as its intended class.
+ @throws ConfigurationException If the given class doesn't implement {@link ConfigObject} or doesn't
+ have a public default constructor. */
 @InternalUse
-public Object parseCustom(@NotNull Class<?> customClazz, @NotNull Object rawValue) throws NotOfClassException, ConfigurationException {
+public @Nullable Object tryParseCustom(@NotNull Class<?> customClazz, @NotNull Object rawValue) throws ConfigurationException {
   // If the class is an array then it won't get the correct constructor.
   customClazz = Classes.getComponent(customClazz);
 
-  // Does manual casting here so input sanitation doesn't need to be performed.
-  // Either way this error shouldn't be thrown as validation is performed before.
-  Class<? extends ConfigObject> configClass;
-  try {
-    configClass = (Class<? extends ConfigObject>) customClazz;
-  }
-  catch (ClassCastException e) {
+  if (!ConfigObject.class.isAssignableFrom(customClazz)) {
     throw new ConfigurationException(Lang.classNotSupported(Classes.getName(customClazz)));
   }
 
   // If this enum doesn't represent a custom object, it can't be parsed as such.
   if (this != CONFIG_OBJECT && this != CONFIG_OBJECT_LIST) {
-    throw new NotOfClassException(Lang.notOfClass(Classes.getName(customClazz), CONFIG_OBJECT + " or " + CONFIG_OBJECT_LIST));
+    return null;
   }
 
-  // Creates a new instance of the config class.
-  // If it can't be created then there is an unrecoverable error.
-  ConfigObject configObject;
-  try {
-    configObject = configClass.newInstance();
-  }
-  catch (InstantiationException | IllegalAccessException e) {
-    throw new ConfigurationException(Lang.missingDefaultConstructor(Classes.getName(configClass)));
+  // Gets the constructor of the config class.
+  // If it can't be found then there is an unrecoverable error.
+  MethodHandle constructor = constructors.get(customClazz);
+  if (constructor == null) {
+    throw new ConfigurationException(Lang.missingDefaultConstructor(Classes.getName(customClazz)));
   }
 
-  // Parsing is handled differently for array & non-array values.
-  if (this.representsArray()) {
-    return this.parseCustomArray(configObject, rawValue);
+  if (!this.representsArray()) {
+    return tryParseCustomNonArray(customClazz, constructor, rawValue);
   }
-  else {
-    return this.parseCustomNonArray(configObject, rawValue);
+
+  List<String> stringList = toList(rawValue);
+  if (stringList == null) return null;
+
+  Object[] configObjects = new Object[stringList.size()];
+  for (int i = 0; i < configObjects.length; i++) {
+    ConfigObject parsedValue = tryParseCustomNonArray(customClazz, constructor, stringList.get(i));
+    if (parsedValue == null) return null;
+
+    configObjects[i] = parsedValue;
   }
+
+  return new ObjectList<>(configObjects);
 }
 
 /**
- If this method is used on an array enum then it will always throw {@link NotOfClassException}.
- <p>
- Parses the given value as the class this enum represents.
- @param configObject An initialized object of the value's marked class.
- @param rawValue     The given value.
- @return The value as its intended object.
- @throws NotOfClassException If the object passed in isn't of a class this enum represents. */
-private ConfigObject parseCustomNonArray(@NotNull ConfigObject configObject, @NotNull Object rawValue) throws NotOfClassException {
+ Parses the given value as a {@link #CONFIG_OBJECT}, if it can be parsed. A new instance of the
+ value's marked class is created to parse each value.
+ @param customClazz The marked class of the value.
+ @param constructor The public default constructor of the value's marked class.
+ @param rawValue    The given value.
+ @return The value as its intended object, or null if it can't be parsed.
+ @throws ConfigurationException If the constructor of the marked class threw an exception. */
+@InternalUse
+private @Nullable ConfigObject tryParseCustomNonArray(@NotNull Class<?> customClazz, @NotNull MethodHandle constructor, @NotNull Object rawValue) throws ConfigurationException {
   if (rawValue instanceof ConfigObject) return (ConfigObject) rawValue;
 
+  ConfigObject configObject;
+  try {
+    configObject = (ConfigObject) constructor.invokeExact();
+  }
+  catch (Error e) {
+    throw e;
+  }
+  // Mirrors the exception thrown when the constructor is called with reflection.
+  catch (Throwable e) {
+    throw new ConfigurationException(Lang.missingDefaultConstructor(Classes.getName(customClazz)), e);
+  }
+
+  // The parsing of custom objects is implemented by the user, so exceptions are the only way it can
+  // report invalid data.
   try {
     return configObject.parseConfigString(rawValue.toString());
   }
-  catch (Exception ignore) {
-    String className = Classes.getName(rawValue.getClass());
-    throw new NotOfClassException(Lang.notOfClass(className, CONFIG_OBJECT.toString()));
+  catch (InvalidDataException ignore) {
+    return null;
   }
 }
 
-/**
- If this method is used on a non-array enum then it will always throw {@link NotOfClassException}.
- <p>
- Parses the given value as the class this enum represents.
- @param configObject An initialized object of the value's marked class.
- @param rawValue     The given value.
- @return The value as its intended object.
- @throws NotOfClassException If the object passed in isn't of a class this enum represents. */
-private List<ConfigObject> parseCustomArray(@NotNull ConfigObject configObject, @NotNull Object rawValue) {
-  try {
-    List<String> stringList = toList(rawValue);
-    ArrayList<ConfigObject> configObjects = new ArrayList<>(stringList.size());
 
-    for (String value : stringList) {
-      configObjects.add(parseCustomNonArray(configObject, value));
-    }
+/**
+ Checks if the given string is a whole number within the given range, in the same format accepted by
+ {@link Long#parseLong(String)}. This doesn't throw an exception for invalid numbers, so it can be
+ used to check a value before parsing it.
+ @param value The given string.
+ @param min   The minimum value of the number.
+ @param max   The maximum value of the number.
+ @return True if the given string is a whole number within the range. Otherwise, false. */
+@Contract(pure=true)
+@InternalUse
+private static boolean isWholeNumber(@NotNull String value, long min, long max) {
+  int length = value.length();
+  if (length == 0) return false;
 
-    return configObjects;
+  int i = 0;
+  boolean negative = false;
+  char first = value.charAt(0);
+  if (first == '-' || first == '+') {
+    negative = first == '-';
+    if (length == 1) return false;
+    i++;
   }
-  catch (Exception e) {
-    // If the error was thrown by the parsing method then just throw that
-    if (e instanceof NotOfClassException) throw e;
 
-    // Else thrown a generic exception
-    String className = Classes.getName(rawValue.getClass());
-    throw new NotOfClassException(Lang.notOfClass(className, CONFIG_OBJECT.toString()));
+  // The number is accumulated negatively, as the minimum value has a greater magnitude.
+  long limit = negative ? min : -max;
+  long multiplyLimit = limit / 10;
+  long result = 0;
+  for (; i < length; i++) {
+    int digit = Character.digit(value.charAt(i), 10);
+    if (digit < 0 || result < multiplyLimit) return false;
+
+    result *= 10;
+    if (result < limit + digit) return false;
+    result -= digit;
   }
+
+  return true;
 }
 
+/**
+ Checks if the given string is a decimal number, in the same format accepted by
+ {@link Double#parseDouble(String)}. This doesn't throw an exception for invalid numbers, so it can
+ be used to check a value before parsing it.
+ @param value The given string.
+ @return True if the given string is a decimal number. Otherwise, false. */
+@Contract(pure=true)
+@InternalUse
+private static boolean isDecimal(@NotNull String value) {
+  value = value.trim();
+  int length = value.length();
+  int i = 0;
+
+  if (i < length && (value.charAt(i) == '-' || value.charAt(i) == '+')) i++;
+  if (value.startsWith("NaN", i)) return i + 3 == length;
+  if (value.startsWith("Infinity", i)) return i + 8 == length;
+
+  boolean hex = value.startsWith("0x", i) || value.startsWith("0X", i);
+  if (hex) i += 2;
+  int radix = hex ? 16 : 10;
+
+  // The digits before & after the point.
+  int digits = 0;
+  while (i < length && Character.digit(value.charAt(i), radix) >= 0 && value.charAt(i) < 128) {i++; digits++;}
+  if (i < length && value.charAt(i) == '.') i++;
+  while (i < length && Character.digit(value.charAt(i), radix) >= 0 && value.charAt(i) < 128) {i++; digits++;}
+  if (digits == 0) return false;
+
+  // Hexadecimal numbers must have a binary exponent.
+  boolean hasExponent = i < length && (hex ? value.charAt(i) == 'p' || value.charAt(i) == 'P' : value.charAt(i) == 'e' || value.charAt(i) == 'E');
+  if (hex && !hasExponent) return false;
+  if (hasExponent) {
+    i++;
+    if (i < length && (value.charAt(i) == '-' || value.charAt(i) == '+')) i++;
+
+    int exponentDigits = 0;
+    while (i < length && value.charAt(i) >= '0' && value.charAt(i) <= '9') {i++; exponentDigits++;}
+    if (exponentDigits == 0) return false;
+  }
+
+  if (i < length && "fFdD".indexOf(value.charAt(i)) >= 0) i++;
+  return i == length;
+}
 
 /**
- Checks if the given class is represented by any existing enum in {@link SupportedClasses}
- @param classToMatch The given class.
- @return True if the given class is represented. False otherwise. */
+ Parses the given string as a date time with the given formatter, if it can be parsed. The string is
+ only parsed once, &amp; the parsed fields are converted to the date time directly.
+ @param value     The given string.
+ @param formatter The format of the date time.
+ @param query     Converts the parsed fields to the date time.
+ @param <T>       The class of the date time.
+ @return The parsed date time, or null if it can't be parsed. */
 @Contract(pure=true)
 @InternalUse
-public static boolean existsAsEnum(@NotNull Class<?> classToMatch) {
-  SupportedClasses[] supportedClasses = SupportedClasses.class.getEnumConstants();
+private static <T> @Nullable T tryParseDateTime(@NotNull String value, @NotNull DateTimeFormatter formatter, @NotNull TemporalQuery<T> query) {
+  ParsePosition position = new ParsePosition(0);
 
-  // Loops over this class to find if any enums support the class to match.
-  for (SupportedClasses supportedClass : supportedClasses) {
-    for (Class<?> alikeClass : supportedClass.getClasses()) {
-      if (classToMatch.equals(alikeClass)) return true;
-    }
+  try {
+    TemporalAccessor parsed = formatter.parse(value, position);
+    // Only the start of the string has to match the format, so any text after the date time is checked.
+    if (position.getErrorIndex() >= 0 || position.getIndex() != value.length()) return null;
+
+    return query.queryFrom(parsed);
+  }
+  catch (DateTimeException ignore) {
+    return null;
   }
+}
 
-  // If the class is an array then it won't get the correct interfaces.
-  Class<?> componentClass = Classes.getComponent(classToMatch);
 
-  // If it implements the interface then it's supported.
-  for (Class<?> interfaces : componentClass.getInterfaces()) {
-    if (interfaces.equals(ConfigObject.class)) return true;
+/**
+ Contains the enum that represents each class that has been looked up. Classes that aren't
+ represented by any enum contain null. The classes are only resolved the first time they are looked
+ up, so every later lookup takes constant time. */
+@InternalUse
+private static final @NotNull ClassValue<SupportedClasses> representations = new ClassValue<SupportedClasses>() {
+  @Override
+  protected @Nullable SupportedClasses computeValue(@NotNull Class<?> type) {
+    return resolve(type);
   }
+};
 
-  return false;
+/**
+ Checks if the given class is represented by any existing enum in {@link SupportedClasses}
+ @param classToMatch The given class.
+ @return True if the given class is represented. False otherwise. */
+@Contract(pure=true)
+@InternalUse
+public static boolean existsAsEnum(@NotNull Class<?> classToMatch) {
+  return representations.get(classToMatch) != null;
 }
 
 /**
@@ -667,10 +586,23 @@ public static boolean existsAsEnum(@NotNull Class<?> classToMatch) {
  @throws ConfigurationException If the given class doesn't match any supported classes. */
 @InternalUse
 public static @NotNull SupportedClasses getAsEnum(@NotNull Class<?> classToMatch) throws ConfigurationException {
-  SupportedClasses[] supportedClasses = SupportedClasses.class.getEnumConstants();
+  SupportedClasses supportedClass = representations.get(classToMatch);
+  if (supportedClass != null) return supportedClass;
+
+  String className = Classes.getName(classToMatch);
+  throw new ConfigurationException(Lang.classNotSupported(className));
+}
 
+/**
+ Finds the enum inside {@link SupportedClasses} that represents the given class, by checking every
+ enum. This should only be used by {@link #representations}, which caches the result.
+ @param classToMatch The given class.
+ @return The enum that represents the given class, or null if the class isn't supported. */
+@Contract(pure=true)
+@InternalUse
+private static @Nullable SupportedClasses resolve(@NotNull Class<?> classToMatch) {
   // Loops over this class to find if any enums support the class to match.
-  for (SupportedClasses supportedClass : supportedClasses) {
+  for (SupportedClasses supportedClass : values()) {
     for (Class<?> alikeClass : supportedClass.getClasses()) {
       if (classToMatch.equals(alikeClass)) return supportedClass;
     }
@@ -679,26 +611,23 @@ public static @NotNull SupportedClasses getAsEnum(@NotNull Class<?> classToMatch
   // If the class is an array then it won't get the correct interfaces.
   Class<?> componentClass = Classes.getComponent(classToMatch);
 
-  // If it implements the interface then it's supported.
-  for (Class<?> interfaces : componentClass.getInterfaces()) {
-    if (!interfaces.equals(ConfigObject.class)) continue;
-
-    if (classToMatch.isArray()) {return CONFIG_OBJECT_LIST;}
-    else {return CONFIG_OBJECT;}
-  }
+  // If it implements the interface, directly or through a superclass or another interface, then it's
+  // supported.
+  if (!ConfigObject.class.isAssignableFrom(componentClass)) return null;
 
-  String className = Classes.getName(classToMatch);
-  throw new ConfigurationException(Lang.classNotSupported(className));
+  if (classToMatch.isArray()) {return CONFIG_OBJECT_LIST;}
+  else {return CONFIG_OBJECT;}
 }
 
 
 /**
  Converts the given value to {@literal List<String>}.
- @param value The given value. It must be an instance of {@link List} or an array of any type.
- @return The given value converted to an object list.
- @throws IllegalArgumentException If the given value isn't a list or an array. */
+ @param value The given value. It should be an instance of {@link List} or an array of any type.
+ @return The given value converted to a string list, or null if the value isn't a list or an array,
+ or contains null. */
+@Contract(pure=true)
 @InternalUse
-private static @NotNull List<String> toList(@NotNull Object value) throws IllegalArgumentException {
+private static @Nullable List<String> toList(@NotNull Object value) {
   ArrayList<String> stringList;
 
   // Converts the List or array into a String list.
@@ -707,17 +636,33 @@ private static @NotNull List<String> toList(@NotNull Object value) throws Illega
     stringList = new ArrayList<>(valueList.size());
 
     for (Object obj : valueList) {
+      if (obj == null) return null;
       stringList.add(obj.toString());
     }
   }
-  else {
+  // Object arrays are read directly, so only primitive arrays need to be read with reflection.
+  else if (value instanceof Object[]) {
+    Object[] valueArray = (Object[]) value;
+    stringList = new ArrayList<>(valueArray.length);
+
+    for (Object obj : valueArray) {
+      if (obj == null) return null;
+      stringList.add(obj.toString());
+    }
+  }
+  else if (value.getClass().isArray()) {
     int length = Array.getLength(value);
     stringList = new ArrayList<>(length);
 
     for (int i = 0; i < length; ++i) {
-      stringList.add(Array.get(value, i).toString());
+      Object obj = Array.get(value, i);
+      if (obj == null) return null;
+      stringList.add(obj.toString());
     }
   }
+  else {
+    return null;
+  }
 
   return stringList;
 }
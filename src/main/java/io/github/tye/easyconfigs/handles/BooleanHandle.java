@@ -0,0 +1,39 @@
+package io.github.tye.easyconfigs.handles;
+
+import io.github.tye.easyconfigs.SupportedClasses;
+import io.github.tye.easyconfigs.annotations.ExternalUse;
+import io.github.tye.easyconfigs.annotations.InternalUse;
+import io.github.tye.easyconfigs.exceptions.NotInitiatedException;
+import io.github.tye.easyconfigs.exceptions.NotOfClassException;
+import io.github.tye.easyconfigs.instances.Instance;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ A handle bound to a {@link Boolean} config. The value is retrieved without any boxing or class
+ checks, which makes it suited for configs that are read very often.
+ <p>
+ Handles are created with {@code booleanHandle()} on a config enum &amp; can be kept for as long as
+ needed. Replaced values &amp; re-registered configs will be seen by existing handles. */
+@ExternalUse
+public final class BooleanHandle extends BoundHandle {
+
+/**
+ Binds a new handle to the given instance.
+ @param instance   The instance to bind the handle to.
+ @param persistent True if the instance is a persistent config. False if the instance is a read only
+                   config.
+ @throws NotOfClassException If the given instance isn't a boolean config. */
+@InternalUse
+public BooleanHandle(@NotNull Instance instance, boolean persistent) throws NotOfClassException {
+  super(instance, persistent);
+  checkKind(instance, SupportedClasses.BOOLEAN);
+}
+
+/**
+ @return Gets the current value of the config this handle is bound to.
+ @throws NotInitiatedException If the config hasn't been registered. */
+@ExternalUse
+public boolean get() throws NotInitiatedException {
+  return store().getBooleanAt(slot);
+}
+}
@@ -0,0 +1,96 @@
+package io.github.tye.easyconfigs.handles;
+
+import io.github.tye.easyconfigs.SupportedClasses;
+import io.github.tye.easyconfigs.annotations.InternalUse;
+import io.github.tye.easyconfigs.exceptions.ConfigurationException;
+import io.github.tye.easyconfigs.exceptions.NotInitiatedException;
+import io.github.tye.easyconfigs.exceptions.NotOfClassException;
+import io.github.tye.easyconfigs.instances.Instance;
+import io.github.tye.easyconfigs.instances.InstanceDescriptor;
+import io.github.tye.easyconfigs.instances.InstanceRegistry;
+import io.github.tye.easyconfigs.instances.ValueStore;
+import io.github.tye.easyconfigs.internalConfigs.Lang;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ The shared base of every config handle.
+ <p>
+ A handle is bound to a single config instance when it's created. The class of the instance is
+ checked once at creation &amp; the slot of the instance is resolved once at creation, so retrieving
+ a value only needs to find the current values &amp; index them. */
+@InternalUse
+abstract class BoundHandle {
+
+/**
+ The instance this handle is bound to. */
+@InternalUse
+final @NotNull Instance instance;
+
+/**
+ The slot of the instance within a {@link ValueStore}. */
+@InternalUse
+final int slot;
+
+/**
+ True if the instance is a persistent config. False if the instance is a read only config. */
+@InternalUse
+final boolean persistent;
+
+/**
+ Binds a new handle to the given instance.
+ @param instance   The instance to bind the handle to.
+ @param persistent True if the instance is a persistent config. False if the instance is a read only
+                   config. */
+@InternalUse
+BoundHandle(@NotNull Instance instance, boolean persistent) {
+  this.instance = instance;
+  this.slot = instance.ordinal();
+  this.persistent = persistent;
+}
+
+/**
+ Gets the current values that contain the value of the instance this handle is bound to.
+ <p>
+ The values are got on every call, so replaced values &amp; re-registered configs are always seen.
+ @return The current values.
+ @throws NotInitiatedException If the config of the instance hasn't been registered. */
+@InternalUse
+final @NotNull ValueStore store() throws NotInitiatedException {
+  ValueStore store = persistent ? InstanceRegistry.persistent(instance).getValues() : InstanceRegistry.reading(instance).getValues();
+
+  // The enum could be re-registered with different values, so the instance is checked to be part of them.
+  if (!store.holds(instance, slot)) throw new NotInitiatedException(instance.getYamlPath());
+
+  return store;
+}
+
+/**
+ Gets the {@link SupportedClasses} that represents the given class.
+ @param clazz The given class.
+ @return The kind of the given class, or null if the class isn't supported. */
+@Contract(pure=true)
+@InternalUse
+static @Nullable SupportedClasses kindOf(@NotNull Class<?> clazz) {
+  try {
+    return SupportedClasses.getAsEnum(clazz);
+  }
+  catch (ConfigurationException ignore) {
+    return null;
+  }
+}
+
+/**
+ Checks that the given instance is marked as the given kind.
+ @param instance     The given instance.
+ @param intendedType The kind the instance should be marked as.
+ @throws NotOfClassException If the instance isn't marked as the given kind. */
+@InternalUse
+static void checkKind(@NotNull Instance instance, @NotNull SupportedClasses intendedType) throws NotOfClassException {
+  InstanceDescriptor descriptor = InstanceDescriptor.of(instance);
+  if (descriptor != null && descriptor.kind == intendedType) return;
+
+  throw new NotOfClassException(Lang.notOfClass(instance.getYamlPath(), intendedType.getClassNames()));
+}
+}
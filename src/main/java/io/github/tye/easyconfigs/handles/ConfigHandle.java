@@ -0,0 +1,68 @@
+package io.github.tye.easyconfigs.handles;
+
+import io.github.tye.easyconfigs.SupportedClasses;
+import io.github.tye.easyconfigs.annotations.ExternalUse;
+import io.github.tye.easyconfigs.annotations.InternalUse;
+import io.github.tye.easyconfigs.exceptions.NotInitiatedException;
+import io.github.tye.easyconfigs.exceptions.NotOfClassException;
+import io.github.tye.easyconfigs.instances.Instance;
+import io.github.tye.easyconfigs.instances.InstanceDescriptor;
+import io.github.tye.easyconfigs.internalConfigs.Lang;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ A handle bound to a config that isn't a list. The class of the config is checked once when the handle
+ is created, so the value is retrieved without any class checks.
+ <p>
+ Handles are created with {@code handle(Class)} on a config enum &amp; can be kept for as long as
+ needed. Replaced values &amp; re-registered configs will be seen by existing handles.
+ <p>
+ For {@link Integer}, {@link Long}, {@link Double}, or {@link Boolean} configs, {@link IntHandle},
+ {@link LongHandle}, {@link DoubleHandle}, or {@link BooleanHandle} should be used instead, as they
+ don't box the value.
+ @param <T> The class of the config value. */
+@ExternalUse
+public final class ConfigHandle<T> extends BoundHandle {
+
+/**
+ Binds a new handle to the given instance.
+ @param instance   The instance to bind the handle to.
+ @param persistent True if the instance is a persistent config. False if the instance is a read only
+                   config.
+ @param type       The class to retrieve the config value as.
+ @throws NotOfClassException If the given instance is a list, or can't be retrieved as the given
+                             class. */
+@InternalUse
+public ConfigHandle(@NotNull Instance instance, boolean persistent, @NotNull Class<T> type) throws NotOfClassException {
+  super(instance, persistent);
+
+  InstanceDescriptor descriptor = InstanceDescriptor.of(instance);
+  SupportedClasses kind = descriptor == null ? null : descriptor.kind;
+
+  boolean matches;
+  if (descriptor == null || kind == null || kind.representsArray()) {
+    matches = false;
+  }
+  // Custom objects can be retrieved as any class they extend.
+  else if (kind == SupportedClasses.CONFIG_OBJECT) {
+    matches = type.isAssignableFrom(descriptor.assignedClass);
+  }
+  else {
+    matches = kindOf(type) == kind;
+  }
+
+  if (!matches) {
+    throw new NotOfClassException(Lang.notOfClass(instance.getYamlPath(), type.getName()));
+  }
+}
+
+/**
+ @return Gets the current value of the config this handle is bound to.
+ @throws NotInitiatedException If the config hasn't been registered. */
+@SuppressWarnings("unchecked")
+// The class of the value is checked when the handle is created.
+@ExternalUse
+public @NotNull T get() throws NotInitiatedException {
+  return (T) store().getValueAt(slot);
+}
+}
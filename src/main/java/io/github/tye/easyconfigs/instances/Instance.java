@@ -19,4 +19,11 @@ Class<?> getAssingedClass();
 @InternalUse
 String getYamlPath();
 
+/**
+ Gets the position of this instance within its enum. This is implemented by {@link Enum#ordinal()}
+ &amp; is used as the slot of this instance within a {@link ValueStore}.
+ @return The ordinal of this instance. */
+@InternalUse
+int ordinal();
+
 }
@@ -0,0 +1,139 @@
+package io.github.tye.easyconfigs.instances;
+
+import io.github.tye.easyconfigs.SupportedClasses;
+import io.github.tye.easyconfigs.annotations.InternalUse;
+import io.github.tye.easyconfigs.exceptions.ConfigurationException;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ Contains the information an instance was initiated with.
+ <p>
+ Descriptors are stored in a separate table for every enum class, indexed by the
+ {@link Instance#ordinal() ordinal} of the instance. So retrieving the descriptor of an instance
+ never hashes the instance, &amp; enums that are initialized on different threads never share a
+ table. */
+@InternalUse
+public final class InstanceDescriptor {
+
+/**
+ The class the instance should be parsed as. */
+@InternalUse
+public final @NotNull Class<?> assignedClass;
+
+/**
+ The path to parse the instance from in a yaml. */
+@InternalUse
+public final @NotNull String yamlPath;
+
+/**
+ The {@link SupportedClasses} that represents the assigned class. If the assigned class isn't
+ supported, then this is null. */
+@InternalUse
+public final @Nullable SupportedClasses kind;
+
+/**
+ The slot of the instance within its enum. */
+@InternalUse
+public final int slot;
+
+/**
+ Creates a new descriptor.
+ @param assignedClass The class the instance should be parsed as.
+ @param yamlPath      The path to parse the instance from in a yaml.
+ @param slot          The slot of the instance within its enum. */
+@InternalUse
+private InstanceDescriptor(@NotNull Class<?> assignedClass, @NotNull String yamlPath, int slot) {
+  this.assignedClass = assignedClass;
+  this.yamlPath = yamlPath;
+  this.slot = slot;
+
+  SupportedClasses kind;
+  try {
+    kind = SupportedClasses.getAsEnum(assignedClass);
+  }
+  // The class is reported as unsupported when the enum is registered.
+  catch (ConfigurationException ignore) {
+    kind = null;
+  }
+  this.kind = kind;
+}
+
+
+/**
+ Contains the descriptor table of every enum class that has initiated an instance. */
+@InternalUse
+private static final ClassValue<Table> tables = new ClassValue<Table>() {
+  @Override
+  protected @NotNull Table computeValue(@NotNull Class<?> type) {
+    return new Table();
+  }
+};
+
+/**
+ Contains the descriptors of the instances of a single enum class, indexed by their slot. */
+@InternalUse
+private static final class Table {
+
+  /**
+   The descriptors of the enum. The array is replaced with a larger copy when it needs to grow. */
+  private volatile @NotNull InstanceDescriptor[] descriptors = new InstanceDescriptor[0];
+
+  /**
+   Stores the given descriptor at its slot.
+   @param descriptor The descriptor to store. */
+  private synchronized void put(@NotNull InstanceDescriptor descriptor) {
+    InstanceDescriptor[] descriptors = this.descriptors;
+
+    // The enum constants don't exist yet while the enum is being initialized, so the amount of
+    // constants isn't known. The table grows as each constant is initiated instead.
+    if (descriptor.slot >= descriptors.length) {
+      descriptors = Arrays.copyOf(descriptors, Math.max(descriptor.slot + 1, descriptors.length * 2));
+    }
+
+    // Descriptors are immutable, so they are safe to read without locking once stored.
+    descriptors[descriptor.slot] = descriptor;
+    this.descriptors = descriptors;
+  }
+}
+
+
+/**
+ Gets the enum class that declares the given instance.
+ @param instance The given instance.
+ @return The class of the enum that declares the given instance. */
+@Contract(pure=true)
+@InternalUse
+static @NotNull Class<?> declaringClass(@NotNull Instance instance) {
+  // Enum constants with bodies are subclasses of their enum, so the declaring class is used.
+  if (instance instanceof Enum) return ((Enum<?>) instance).getDeclaringClass();
+  return instance.getClass();
+}
+
+/**
+ Stores the information the given instance was initiated with.
+ @param instance      The instance that was initiated.
+ @param assignedClass The class the instance should be parsed as.
+ @param yamlPath      The path to parse the instance from in a yaml. */
+@InternalUse
+public static void register(@NotNull Instance instance, @NotNull Class<?> assignedClass, @NotNull String yamlPath) {
+  tables.get(declaringClass(instance)).put(new InstanceDescriptor(assignedClass, yamlPath, instance.ordinal()));
+}
+
+/**
+ Gets the information the given instance was initiated with.
+ @param instance The given instance.
+ @return The descriptor of the given instance, or null if the instance hasn't been initiated. */
+@Contract(pure=true)
+@InternalUse
+public static @Nullable InstanceDescriptor of(@NotNull Instance instance) {
+  InstanceDescriptor[] descriptors = tables.get(declaringClass(instance)).descriptors;
+
+  int slot = instance.ordinal();
+  if (slot >= descriptors.length) return null;
+  return descriptors[slot];
+}
+}
@@ -0,0 +1,97 @@
+package io.github.tye.easyconfigs.instances;
+
+import io.github.tye.easyconfigs.annotations.InternalUse;
+import io.github.tye.easyconfigs.exceptions.NotInitiatedException;
+import io.github.tye.easyconfigs.instances.persistent.PersistentInstanceHandler;
+import io.github.tye.easyconfigs.instances.reading.ReadingInstanceHandler;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ Contains the handler of every registered enum, keyed by the class of the enum.
+ <p>
+ Every enum class has its own entry, so any amount of enums can be registered at the same time
+ without replacing each other. Finding the handler of an instance doesn't lock or hash the instance,
+ &amp; enums that are registered or read on different threads don't share any state. */
+@InternalUse
+public final class InstanceRegistry {
+
+/**
+ This class only contains static methods, so it shouldn't be instantiated. */
+@InternalUse
+private InstanceRegistry() {}
+
+/**
+ Contains the current handler of a single enum class. */
+@InternalUse
+private static final class Entry {
+  private volatile @Nullable Object handler;
+}
+
+/**
+ Contains the entry of every enum class that has been registered or read. */
+@InternalUse
+private static final ClassValue<Entry> entries = new ClassValue<Entry>() {
+  @Override
+  protected @NotNull Entry computeValue(@NotNull Class<?> type) {
+    return new Entry();
+  }
+};
+
+
+/**
+ Registers the given handler for the given enum class, replacing any existing handler of the enum.
+ @param instanceEnum The enum class the handler contains the values of.
+ @param handler      The handler containing the values of the enum. */
+@InternalUse
+public static void register(@NotNull Class<? extends Instance> instanceEnum, @NotNull ReadingInstanceHandler handler) {
+  entries.get(instanceEnum).handler = handler;
+}
+
+/**
+ Registers the given handler for the given enum class, replacing any existing handler of the enum.
+ @param instanceEnum The enum class the handler contains the values of.
+ @param handler      The handler containing the values of the enum. */
+@InternalUse
+public static void register(@NotNull Class<? extends Instance> instanceEnum, @NotNull PersistentInstanceHandler handler) {
+  entries.get(instanceEnum).handler = handler;
+}
+
+
+/**
+ Gets the handler registered for the given enum class.
+ @param instanceEnum The given enum class.
+ @return The handler registered for the given enum class, or null if the enum isn't registered. */
+@Contract(pure=true)
+@InternalUse
+public static @Nullable Object getHandler(@NotNull Class<?> instanceEnum) {
+  return entries.get(instanceEnum).handler;
+}
+
+/**
+ Gets the handler registered for the enum of the given read only instance.
+ @param instance The given instance.
+ @return The handler containing the value of the given instance.
+ @throws NotInitiatedException If the enum of the given instance hasn't been registered. */
+@Contract(pure=true)
+@InternalUse
+public static @NotNull ReadingInstanceHandler reading(@NotNull Instance instance) throws NotInitiatedException {
+  Object handler = getHandler(InstanceDescriptor.declaringClass(instance));
+  if (handler instanceof ReadingInstanceHandler) return (ReadingInstanceHandler) handler;
+  throw new NotInitiatedException();
+}
+
+/**
+ Gets the handler registered for the enum of the given persistent instance.
+ @param instance The given instance.
+ @return The handler containing the value of the given instance.
+ @throws NotInitiatedException If the enum of the given instance hasn't been registered. */
+@Contract(pure=true)
+@InternalUse
+public static @NotNull PersistentInstanceHandler persistent(@NotNull Instance instance) throws NotInitiatedException {
+  Object handler = getHandler(InstanceDescriptor.declaringClass(instance));
+  if (handler instanceof PersistentInstanceHandler) return (PersistentInstanceHandler) handler;
+  throw new NotInitiatedException();
+}
+}
@@ -0,0 +1,256 @@
+package io.github.tye.easyconfigs.instances;
+
+import io.github.tye.easyconfigs.annotations.InternalUse;
+import io.github.tye.easyconfigs.exceptions.ConfigurationException;
+import io.github.tye.easyconfigs.internalConfigs.Lang;
+import io.github.tye.easyconfigs.keys.LangTemplate;
+import io.github.tye.easyconfigs.logger.LogType;
+import io.github.tye.easyconfigs.yamls.ReadYaml;
+import io.github.tye.easyconfigs.yamls.StreamedYaml;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static io.github.tye.easyconfigs.logger.EasyConfigurationsDefaultLogger.logger;
+
+/**
+ Contains the locales registered for a single lang enum.
+ <p>
+ Locales can either be loaded when they are registered, or registered lazily. A lazy locale isn't
+ parsed until a lang is first retrieved for it, or for a locale that falls back to it. If an idle
+ timeout is set, lazy locales that haven't been used within the timeout are removed from memory,
+ &amp; are parsed again the next time they are used. */
+@InternalUse
+public final class LocaleRegistry {
+
+/**
+ Contains the values of every locale that is currently loaded. */
+@InternalUse
+private volatile @NotNull LocaleTable table = LocaleTable.EMPTY;
+
+/**
+ Contains every lazily registered locale, whether it's currently loaded or not. */
+@InternalUse
+private final @NotNull ConcurrentHashMap<Locale, LazyLocale> lazyLocales = new ConcurrentHashMap<>();
+
+/**
+ Contains the lazy locales that each retrieved locale uses, so the fallback chain of a locale is only
+ searched the first time it's retrieved. */
+@InternalUse
+private final @NotNull ConcurrentHashMap<Locale, LazyLocale[]> lazyChains = new ConcurrentHashMap<>();
+
+/**
+ The time in nanoseconds a lazy locale can be unused for before it's removed from memory. If this is
+ 0, then lazy locales are never removed. */
+@InternalUse
+private volatile long idleTimeout = 0;
+
+/**
+ The {@link System#nanoTime()} that idle lazy locales were last searched for. */
+@InternalUse
+private volatile long lastSweep = System.nanoTime();
+
+
+/**
+ A locale that is parsed from its yaml when it's first used. */
+@InternalUse
+private static final class LazyLocale {
+  private final @NotNull Locale locale;
+  private final @NotNull Class<? extends Instance> langEnum;
+  private final @NotNull String resourcePath;
+
+  /**
+   The {@link System#nanoTime()} the locale was last used. */
+  private volatile long lastUsed;
+
+  /**
+   If the locale has been loaded. Failed loads also count as loaded, so they aren't retried on every
+   retrieval. Only modified while holding the lock of the registry. */
+  private volatile boolean loaded = false;
+
+  /**
+   If the locale couldn't be parsed, so it has no values in the table even though it's loaded. Only
+   modified while holding the lock of the registry. */
+  private volatile boolean failed = false;
+
+  private LazyLocale(@NotNull Locale locale, @NotNull Class<? extends Instance> langEnum, @NotNull String resourcePath) {
+    this.locale = locale;
+    this.langEnum = langEnum;
+    this.resourcePath = resourcePath;
+  }
+}
+
+
+/**
+ Adds the values of the given locale. If the locale has already been added, then its values are
+ replaced &amp; it's no longer lazy.
+ @param locale The locale the values are for.
+ @param values The values of the locale, indexed by the ordinal of their lang. Values that aren't in
+               the locale must be null. */
+@InternalUse
+public synchronized void add(@NotNull Locale locale, @NotNull LangTemplate[] values) {
+  if (lazyLocales.remove(locale) != null) lazyChains.clear();
+  table = table.withLocale(locale, values);
+}
+
+/**
+ Adds the given locale without parsing it. The locale will be parsed from the given yaml when it's
+ first used. If the locale has already been added, then its values are removed until it's used.
+ @param locale       The locale the yaml contains the values of.
+ @param langEnum     The lang enum the locale is for.
+ @param resourcePath The path to the yaml file within the resource folder that contains the values
+                     of the locale. */
+@InternalUse
+public synchronized void addLazy(@NotNull Locale locale, @NotNull Class<? extends Instance> langEnum, @NotNull String resourcePath) {
+  lazyLocales.put(locale, new LazyLocale(locale, langEnum, resourcePath));
+  lazyChains.clear();
+  table = table.withoutLocale(locale);
+}
+
+/**
+ Sets the time a lazy locale can be unused for before it's removed from memory.
+ @param idleTimeout The time in nanoseconds, or 0 to never remove lazy locales. */
+@InternalUse
+public void setIdleTimeout(long idleTimeout) {
+  this.idleTimeout = idleTimeout;
+}
+
+
+/**
+ Gets the value of the given lang for the given locale. Any lazy locales that are needed are loaded
+ first.
+ @param instance The given lang.
+ @param locale   The given locale.
+ @return The value of the lang, or null if the value of the lang without a locale should be
+ used. */
+@InternalUse
+public @Nullable LangTemplate get(@NotNull Instance instance, @NotNull Locale locale) {
+  LocaleTable table = lazyLocales.isEmpty() ? this.table : use(locale);
+  return table.get(instance, locale);
+}
+
+/**
+ Marks every lazy locale that the given locale uses as used, removes idle lazy locales if the idle
+ timeout has passed since they were last searched for, &amp; loads any used locales that aren't
+ loaded.
+ @param locale The locale being retrieved.
+ @return A table that contains every lazy locale the given locale uses. */
+@InternalUse
+private @NotNull LocaleTable use(@NotNull Locale locale) {
+  LazyLocale[] chain = lazyChains.get(locale);
+  if (chain == null) chain = lazyChain(locale);
+
+  long now = System.nanoTime();
+  for (LazyLocale lazy : chain) lazy.lastUsed = now;
+
+  // Idle locales are removed before loading, so the locales used by this retrieval are never removed
+  // between being loaded & being read.
+  long idleTimeout = this.idleTimeout;
+  if (idleTimeout > 0 && now - lastSweep > idleTimeout) evictIdle(now, idleTimeout);
+
+  // The table is only read once, as another thread could remove the used locales from a later table.
+  LocaleTable table = this.table;
+  for (LazyLocale lazy : chain) {
+    if (!lazy.loaded || !lazy.failed && !table.contains(lazy.locale)) return load(chain);
+  }
+  return table;
+}
+
+/**
+ Gets the lazy locales that the given locale, or its fallbacks, are registered as, &amp; stores them
+ for the next time the locale is retrieved.
+ @param locale The given locale.
+ @return The lazy locales the given locale uses. */
+@InternalUse
+private synchronized @NotNull LazyLocale[] lazyChain(@NotNull Locale locale) {
+  List<LazyLocale> chain = new ArrayList<>();
+
+  LazyLocale lazy = lazyLocales.get(locale);
+  if (lazy != null) chain.add(lazy);
+
+  for (Locale fallback : LocaleTable.fallbackChain(locale)) {
+    lazy = lazyLocales.get(fallback);
+    if (lazy != null) chain.add(lazy);
+  }
+
+  LazyLocale[] lazyChain = chain.toArray(new LazyLocale[0]);
+  lazyChains.put(locale, lazyChain);
+  return lazyChain;
+}
+
+/**
+ Loads every lazy locale in the given chain that isn't loaded.
+ @param chain The lazy locales a retrieved locale uses.
+ @return The table after the locales were loaded. */
+@InternalUse
+private synchronized @NotNull LocaleTable load(@NotNull LazyLocale[] chain) {
+  for (LazyLocale lazy : chain) load(lazy);
+  return table;
+}
+
+/**
+ Parses the given lazy locale &amp; adds its values to the table. If the locale can't be parsed, then
+ an error is logged &amp; the values of its fallbacks are used instead. Must only be called while
+ holding the lock of the registry.
+ @param lazy The locale to load. */
+@InternalUse
+private void load(@NotNull LazyLocale lazy) {
+  // Another thread could have loaded the locale, or it could have been replaced, while waiting.
+  if (lazy.loaded || lazyLocales.get(lazy.locale) != lazy) return;
+
+  try (InputStream inputStream = lazy.langEnum.getResourceAsStream(lazy.resourcePath)) {
+    if (inputStream == null) throw new IOException(Lang.configNotReadable(lazy.resourcePath));
+
+    // Locales are never written back, so the yaml is read without keeping its nodes.
+    ReadYaml yaml = new StreamedYaml(inputStream);
+    yaml.warnUnusedKeys(lazy.langEnum, lazy.resourcePath);
+    table = table.withLocale(lazy.locale, yaml.parseLocaleValues(lazy.langEnum, lazy.resourcePath));
+    lazy.failed = false;
+  } catch (IOException | ConfigurationException e) {
+    logger.log(LogType.FAILED_LOCALE_LOAD, Lang.failedLocaleLoad(lazy.resourcePath, lazy.locale.toString()));
+    lazy.failed = true;
+  }
+
+  lazy.loaded = true;
+}
+
+/**
+ Removes every loaded lazy locale that hasn't been used within the idle timeout from the table.
+ @param now         The current {@link System#nanoTime()}.
+ @param idleTimeout The idle timeout in nanoseconds. */
+@InternalUse
+private synchronized void evictIdle(long now, long idleTimeout) {
+  // Another thread could have already searched while waiting.
+  if (now - lastSweep <= idleTimeout) return;
+  lastSweep = now;
+
+  LocaleTable table = this.table;
+  for (Map.Entry<Locale, LazyLocale> entry : lazyLocales.entrySet()) {
+    LazyLocale lazy = entry.getValue();
+    if (!lazy.loaded || now - lazy.lastUsed <= idleTimeout) continue;
+
+    table = table.withoutLocale(entry.getKey());
+    lazy.loaded = false;
+  }
+  this.table = table;
+}
+
+
+/**
+ Checks if the given locale currently has values loaded. Fallbacks of the locale aren't checked.
+ @param locale The given locale.
+ @return True if the locale currently has values loaded. Otherwise, false. */
+@Contract(pure=true)
+@InternalUse
+public boolean isLoaded(@NotNull Locale locale) {
+  return table.contains(locale);
+}
+}
@@ -0,0 +1,202 @@
+package io.github.tye.easyconfigs.instances;
+
+import io.github.tye.easyconfigs.annotations.InternalUse;
+import io.github.tye.easyconfigs.keys.LangTemplate;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ Contains the lang values of every locale registered for a single lang enum.
+ <p>
+ A locale doesn't need to contain every lang value. When a locale is registered, the missing values
+ of every locale are resolved against their fallback chain, so each locale has a dense array of
+ values indexed by the ordinal of the lang. E.g. a missing value in "de_AT" will use the value from
+ "de", &amp; if "de" doesn't contain it either then the value of the lang enum without a locale is
+ used.
+ <p>
+ The values of a table are never modified after it's created. Registering a locale creates a new table. */
+@InternalUse
+public final class LocaleTable {
+
+/**
+ A table that doesn't contain any locales. */
+@InternalUse
+public static final @NotNull LocaleTable EMPTY = new LocaleTable(new HashMap<>(), new HashMap<>());
+
+/**
+ Contains the values parsed for each locale, indexed by the ordinal of their lang. Values that
+ weren't in the locale are null. */
+@InternalUse
+private final @NotNull HashMap<Locale, LangTemplate[]> parsed;
+
+/**
+ Contains the values of each locale with their fallback chain applied, indexed by the ordinal of
+ their lang. Values that aren't in any locale of the fallback chain are null, which means the value
+ of the lang without a locale is used. */
+@InternalUse
+private final @NotNull HashMap<Locale, LangTemplate[]> resolved;
+
+/**
+ Contains the resolved values that each retrieved unregistered locale falls back to, so the fallback
+ chain of a locale is only searched the first time it's retrieved. Locales without a registered
+ fallback are stored as {@link #noFallback}. */
+@InternalUse
+private final @NotNull ConcurrentHashMap<Locale, LangTemplate[]> fallbacks = new ConcurrentHashMap<>();
+
+/**
+ Marks an unregistered locale that has no registered locale in its fallback chain. */
+@InternalUse
+private static final @NotNull LangTemplate[] noFallback = new LangTemplate[0];
+
+/**
+ Creates a new table.
+ @param parsed   The values parsed for each locale.
+ @param resolved The values of each locale with their fallback chain applied. */
+@InternalUse
+private LocaleTable(@NotNull HashMap<Locale, LangTemplate[]> parsed, @NotNull HashMap<Locale, LangTemplate[]> resolved) {
+  this.parsed = parsed;
+  this.resolved = resolved;
+}
+
+
+/**
+ Creates a copy of this table with the values of the given locale added. If the locale already
+ exists in this table, then its values are replaced. This table isn't modified.
+ @param locale The locale the values are for.
+ @param values The values of the locale, indexed by the ordinal of their lang. Values that aren't in
+               the locale must be null.
+ @return A copy of this table containing the given locale. */
+@Contract(pure=true)
+@InternalUse
+public @NotNull LocaleTable withLocale(@NotNull Locale locale, @NotNull LangTemplate[] values) {
+  HashMap<Locale, LangTemplate[]> parsed = new HashMap<>(this.parsed);
+  parsed.put(locale, values);
+  return new LocaleTable(parsed, resolve(parsed));
+}
+
+/**
+ Creates a copy of this table without the values of the given locale. This table isn't modified.
+ @param locale The locale to remove.
+ @return A copy of this table without the given locale. */
+@Contract(pure=true)
+@InternalUse
+public @NotNull LocaleTable withoutLocale(@NotNull Locale locale) {
+  if (!parsed.containsKey(locale)) return this;
+
+  HashMap<Locale, LangTemplate[]> parsed = new HashMap<>(this.parsed);
+  parsed.remove(locale);
+  return new LocaleTable(parsed, resolve(parsed));
+}
+
+/**
+ Checks if the given locale has values in this table. Fallbacks of the locale aren't checked.
+ @param locale The given locale.
+ @return True if the locale has values in this table. Otherwise, false. */
+@Contract(pure=true)
+@InternalUse
+public boolean contains(@NotNull Locale locale) {
+  return parsed.containsKey(locale);
+}
+
+/**
+ Gets the value of the given lang for the given locale. If the locale isn't registered, then the
+ closest registered locale in its fallback chain is used.
+ @param instance The given lang.
+ @param locale   The given locale.
+ @return The value of the lang, or null if the value of the lang without a locale should be
+ used. */
+@Contract(pure=true)
+@InternalUse
+public @Nullable LangTemplate get(@NotNull Instance instance, @NotNull Locale locale) {
+  LangTemplate[] values = resolved.get(locale);
+
+  // Unregistered locales use the closest registered locale.
+  if (values == null) {
+    values = fallbacks.get(locale);
+    if (values == null) values = fallbackFor(locale);
+    if (values == noFallback) return null;
+  }
+
+  LangTemplate template = values[instance.ordinal()];
+  if (template == null) return null;
+
+  // The key characters could have been changed after the value was split.
+  return template.current();
+}
+
+/**
+ Gets the resolved values of the closest registered locale in the fallback chain of the given
+ locale, &amp; stores them for the next time the locale is retrieved.
+ @param locale The given unregistered locale.
+ @return The resolved values of the closest registered locale, or {@link #noFallback} if there
+ isn't one. */
+@InternalUse
+private @NotNull LangTemplate[] fallbackFor(@NotNull Locale locale) {
+  LangTemplate[] values = noFallback;
+  for (Locale fallback : fallbackChain(locale)) {
+    LangTemplate[] fallbackValues = resolved.get(fallback);
+    if (fallbackValues == null) continue;
+
+    values = fallbackValues;
+    break;
+  }
+
+  fallbacks.put(locale, values);
+  return values;
+}
+
+/**
+ Applies the fallback chain of every locale to its values.
+ @param parsed The values parsed for each locale.
+ @return The values of each locale with their fallback chain applied. */
+@Contract(pure=true)
+@InternalUse
+private static @NotNull HashMap<Locale, LangTemplate[]> resolve(@NotNull HashMap<Locale, LangTemplate[]> parsed) {
+  // Every locale is resolved again, as a changed locale could be part of an existing fallback chain.
+  HashMap<Locale, LangTemplate[]> resolved = new HashMap<>();
+  for (Map.Entry<Locale, LangTemplate[]> entry : parsed.entrySet()) {
+    LangTemplate[] resolvedValues = entry.getValue().clone();
+
+    for (Locale fallback : fallbackChain(entry.getKey())) {
+      LangTemplate[] fallbackValues = parsed.get(fallback);
+      if (fallbackValues == null) continue;
+
+      for (int i = 0; i < resolvedValues.length; i++) {
+        if (resolvedValues[i] == null) resolvedValues[i] = fallbackValues[i];
+      }
+    }
+
+    resolved.put(entry.getKey(), resolvedValues);
+  }
+
+  return resolved;
+}
+
+/**
+ Gets the locales to fall back to, from the closest to the furthest, if a value is missing from the
+ given locale. The given locale isn't included.
+ @param locale The given locale.
+ @return The fallback chain of the given locale. */
+@Contract(pure=true)
+@InternalUse
+public static @NotNull List<Locale> fallbackChain(@NotNull Locale locale) {
+  List<Locale> chain = new ArrayList<>(2);
+
+  if (!locale.getVariant().isEmpty()) {
+    chain.add(new Locale(locale.getLanguage(), locale.getCountry()));
+  }
+  if (!locale.getCountry().isEmpty() || !locale.getVariant().isEmpty()) {
+    chain.add(new Locale(locale.getLanguage()));
+  }
+
+  return chain;
+}
+}
@@ -0,0 +1,371 @@
+package io.github.tye.easyconfigs.instances;
+
+import io.github.tye.easyconfigs.NullCheck;
+import io.github.tye.easyconfigs.SupportedClasses;
+import io.github.tye.easyconfigs.annotations.InternalUse;
+import io.github.tye.easyconfigs.exceptions.NotInitiatedException;
+import io.github.tye.easyconfigs.instances.persistent.PersistentLangInstance;
+import io.github.tye.easyconfigs.instances.reading.ReadingLangInstance;
+import io.github.tye.easyconfigs.keys.LangTemplate;
+import io.github.tye.easyconfigs.yamls.ReadYaml;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ Contains the parsed values of a registered instance enum.
+ <p>
+ Every enum constant is resolved to a dense slot when the enum is registered. The slot of a constant
+ is its {@link Instance#ordinal() ordinal}, so retrieving a value is a single array index rather
+ than a lookup by its yaml path.
+ <p>
+ Every value is checked to not be null, or contain null, when it's stored. So values retrieved from
+ the store never need to be checked again.
+ <p>
+ Primitive values are additionally stored unboxed in columns that share the same slots, so they can
+ be retrieved without any unboxing or casting.
+ <p>
+ A store is never modified after it's created. Changing a value creates a new store, so a store can
+ be safely read from any thread without locking. */
+@InternalUse
+public class ValueStore {
+
+/**
+ Contains the enum constants that this store holds the values of, indexed by their slot. */
+@InternalUse
+private final @NotNull Instance[] instances;
+
+/**
+ Contains the {@link SupportedClasses} that each enum constant was parsed as, indexed by their slot.
+ These are resolved once when the values are parsed, so getters only need to compare the kind. */
+@InternalUse
+private final @NotNull SupportedClasses[] kinds;
+
+/**
+ Contains the parsed values of the enum constants, indexed by their slot. */
+@InternalUse
+private final @NotNull Object[] values;
+
+/**
+ Contains the values of any int, short, byte, or char instances, indexed by their slot. */
+@InternalUse
+private final @NotNull int[] ints;
+
+/**
+ Contains the values of any long instances, indexed by their slot. */
+@InternalUse
+private final @NotNull long[] longs;
+
+/**
+ Contains the values of any double or float instances, indexed by their slot. */
+@InternalUse
+private final @NotNull double[] doubles;
+
+/**
+ Contains the values of any boolean instances as a bit set, indexed by their slot. */
+@InternalUse
+private final @NotNull long[] booleans;
+
+/**
+ Contains the split values of every lang instance, indexed by their slot. If this store doesn't
+ contain lang values, then this is null. */
+@InternalUse
+private final @Nullable LangTemplate[] templates;
+
+
+/**
+ Resolves every enum constant of the given class to a slot &amp; copies its parsed value out of the
+ given yaml.
+ <p>
+ Note: {@link ReadYaml#parseValues(Class, String)} must have been performed on the yaml first.
+ @param clazz The enum class that represents the yaml.
+ @param yaml  The yaml containing the parsed values of the enum.
+ @throws NotInitiatedException If the yaml doesn't contain a value for an enum constant. */
+@InternalUse
+public ValueStore(@NotNull Class<? extends Instance> clazz, @NotNull ReadYaml yaml) throws NotInitiatedException {
+  Instance[] instances = clazz.getEnumConstants();
+
+  this.instances = new Instance[instances.length];
+  this.kinds = new SupportedClasses[instances.length];
+  this.values = new Object[instances.length];
+  this.ints = new int[instances.length];
+  this.longs = new long[instances.length];
+  this.doubles = new double[instances.length];
+  this.booleans = new long[(instances.length + 63) >>> 6];
+
+  boolean isLang = ReadingLangInstance.class.isAssignableFrom(clazz) || PersistentLangInstance.class.isAssignableFrom(clazz);
+  this.templates = isLang ? new LangTemplate[instances.length] : null;
+
+  for (Instance instance : instances) {
+    Object value = yaml.getValue(instance.getYamlPath());
+    SupportedClasses kind = yaml.getKind(instance.getYamlPath());
+    // Shouldn't get thrown as every path is checked to exist when the values are parsed.
+    if (value == null || kind == null) throw new NotInitiatedException(instance.getYamlPath());
+
+    int slot = instance.ordinal();
+    this.instances[slot] = instance;
+    this.kinds[slot] = kind;
+    store(slot, value);
+  }
+}
+
+/**
+ Creates a copy of the given store.
+ @param store The store to copy. */
+@InternalUse
+private ValueStore(@NotNull ValueStore store) {
+  this.instances = store.instances; // Never modified, so it can be shared.
+  this.kinds = store.kinds; // Never modified, so it can be shared.
+  this.values = store.values.clone();
+  this.ints = store.ints.clone();
+  this.longs = store.longs.clone();
+  this.doubles = store.doubles.clone();
+  this.booleans = store.booleans.clone();
+  this.templates = store.templates == null ? null : store.templates.clone();
+}
+
+/**
+ Stores the given value at the given slot.
+ <p>
+ This must only be used on a store that hasn't been made available to other threads yet. If the
+ value is a boxed primitive, then it's also stored unboxed in its respective column.
+ @param slot  The slot to store the value at.
+ @param value The value to store.
+ @throws NullPointerException If the given value is, or contains, null. */
+@InternalUse
+private void store(int slot, @NotNull Object value) throws NullPointerException {
+  NullCheck.notNull(value, instances[slot].getYamlPath());
+  values[slot] = value;
+
+  if (templates != null) templates[slot] = new LangTemplate(value.toString());
+
+  if (value instanceof Integer) ints[slot] = (Integer) value;
+  else if (value instanceof Short) ints[slot] = (Short) value;
+  else if (value instanceof Byte) ints[slot] = (Byte) value;
+  else if (value instanceof Character) ints[slot] = (Character) value;
+  else if (value instanceof Long) longs[slot] = (Long) value;
+  else if (value instanceof Double) doubles[slot] = (Double) value;
+  else if (value instanceof Float) doubles[slot] = (Float) value;
+  else if (value instanceof Boolean) {
+    if ((Boolean) value) booleans[slot >>> 6] |= 1L << slot;
+    else booleans[slot >>> 6] &= ~(1L << slot);
+  }
+}
+
+
+/**
+ Gets the slot of the given instance within this store.
+ @param instance The given instance.
+ @return The slot of the given instance.
+ @throws NotInitiatedException If the given instance isn't part of the enum this store was created
+ for. */
+@Contract(pure=true)
+@InternalUse
+public int slotOf(@NotNull Instance instance) throws NotInitiatedException {
+  int slot = instance.ordinal();
+
+  // An instance from a different enum could share the ordinal, so the stored instance is compared.
+  if (!holds(instance, slot)) {
+    throw new NotInitiatedException(instance.getYamlPath());
+  }
+
+  return slot;
+}
+
+/**
+ Checks if the given instance is stored at the given slot within this store.
+ @param instance The given instance.
+ @param slot     The slot the given instance should be stored at.
+ @return True if the given instance is stored at the given slot. Otherwise, false. */
+@Contract(pure=true)
+@InternalUse
+public boolean holds(@NotNull Instance instance, int slot) {
+  return slot < instances.length && instances[slot] == instance;
+}
+
+/**
+ Gets the {@link SupportedClasses} that the given instance was parsed as.
+ @param instance The given instance.
+ @return The kind of the given instance.
+ @throws NotInitiatedException If the given instance isn't part of the enum this store was created
+ for. */
+@Contract(pure=true)
+@InternalUse
+public @NotNull SupportedClasses getKind(@NotNull Instance instance) throws NotInitiatedException {
+  return getKindAt(slotOf(instance));
+}
+
+/**
+ Gets the value of the given instance.
+ @param instance The given instance.
+ @return The parsed value of the given instance.
+ @throws NotInitiatedException If the given instance isn't part of the enum this store was created
+ for. */
+@Contract(pure=true)
+@InternalUse
+public @NotNull Object getValue(@NotNull Instance instance) throws NotInitiatedException {
+  return getValueAt(slotOf(instance));
+}
+
+/**
+ Gets the unboxed value of the given int, short, byte, or char instance.
+ @param instance The given instance.
+ @return The value of the given instance. The value will be widened to an int.
+ @throws NotInitiatedException If the given instance isn't part of the enum this store was created
+ for. */
+@Contract(pure=true)
+@InternalUse
+public int getInt(@NotNull Instance instance) throws NotInitiatedException {
+  return getIntAt(slotOf(instance));
+}
+
+/**
+ Gets the unboxed value of the given long instance.
+ @param instance The given instance.
+ @return The value of the given instance.
+ @throws NotInitiatedException If the given instance isn't part of the enum this store was created
+ for. */
+@Contract(pure=true)
+@InternalUse
+public long getLong(@NotNull Instance instance) throws NotInitiatedException {
+  return getLongAt(slotOf(instance));
+}
+
+/**
+ Gets the unboxed value of the given double or float instance.
+ @param instance The given instance.
+ @return The value of the given instance. The value will be widened to a double.
+ @throws NotInitiatedException If the given instance isn't part of the enum this store was created
+ for. */
+@Contract(pure=true)
+@InternalUse
+public double getDouble(@NotNull Instance instance) throws NotInitiatedException {
+  return getDoubleAt(slotOf(instance));
+}
+
+/**
+ Gets the unboxed value of the given boolean instance.
+ @param instance The given instance.
+ @return The value of the given instance.
+ @throws NotInitiatedException If the given instance isn't part of the enum this store was created
+ for. */
+@Contract(pure=true)
+@InternalUse
+public boolean getBoolean(@NotNull Instance instance) throws NotInitiatedException {
+  return getBooleanAt(slotOf(instance));
+}
+
+/**
+ Gets the split value of the given lang instance.
+ @param instance The given instance.
+ @return The split value of the given instance.
+ @throws NotInitiatedException If the given instance isn't part of the lang enum this store was
+ created for. */
+@Contract(pure=true)
+@InternalUse
+public @NotNull LangTemplate getTemplate(@NotNull Instance instance) throws NotInitiatedException {
+  int slot = slotOf(instance);
+  if (templates == null) throw new NotInitiatedException(instance.getYamlPath());
+
+  LangTemplate template = templates[slot];
+  // The key characters could have been changed after the value was split.
+  return template.current();
+}
+
+/**
+ Gets the {@link SupportedClasses} that the value at the given slot was parsed as.
+ <p>
+ The slot isn't checked to belong to any instance. It should be checked with
+ {@link #holds(Instance, int)} first.
+ @param slot The given slot.
+ @return The kind of the value at the given slot. */
+@Contract(pure=true)
+@InternalUse
+public @NotNull SupportedClasses getKindAt(int slot) {
+  return kinds[slot];
+}
+
+/**
+ Gets the value at the given slot.
+ <p>
+ The slot isn't checked to belong to any instance. It should be checked with
+ {@link #holds(Instance, int)} first.
+ @param slot The given slot.
+ @return The parsed value at the given slot. */
+@Contract(pure=true)
+@InternalUse
+public @NotNull Object getValueAt(int slot) {
+  return values[slot];
+}
+
+/**
+ Gets the unboxed int, short, byte, or char value at the given slot.
+ <p>
+ The slot isn't checked to belong to any instance. It should be checked with
+ {@link #holds(Instance, int)} first.
+ @param slot The given slot.
+ @return The value at the given slot. The value will be widened to an int. */
+@Contract(pure=true)
+@InternalUse
+public int getIntAt(int slot) {
+  return ints[slot];
+}
+
+/**
+ Gets the unboxed long value at the given slot.
+ <p>
+ The slot isn't checked to belong to any instance. It should be checked with
+ {@link #holds(Instance, int)} first.
+ @param slot The given slot.
+ @return The value at the given slot. */
+@Contract(pure=true)
+@InternalUse
+public long getLongAt(int slot) {
+  return longs[slot];
+}
+
+/**
+ Gets the unboxed double or float value at the given slot.
+ <p>
+ The slot isn't checked to belong to any instance. It should be checked with
+ {@link #holds(Instance, int)} first.
+ @param slot The given slot.
+ @return The value at the given slot. The value will be widened to a double. */
+@Contract(pure=true)
+@InternalUse
+public double getDoubleAt(int slot) {
+  return doubles[slot];
+}
+
+/**
+ Gets the unboxed boolean value at the given slot.
+ <p>
+ The slot isn't checked to belong to any instance. It should be checked with
+ {@link #holds(Instance, int)} first.
+ @param slot The given slot.
+ @return The value at the given slot. */
+@Contract(pure=true)
+@InternalUse
+public boolean getBooleanAt(int slot) {
+  return (booleans[slot >>> 6] & (1L << slot)) != 0;
+}
+
+/**
+ Creates a copy of this store with the value of the given instance changed. This store isn't
+ modified.
+ @param instance The given instance.
+ @param value    The new parsed value of the given instance.
+ @return A copy of this store containing the new value.
+ @throws NotInitiatedException If the given instance isn't part of the enum this store was created
+ for.
+ @throws NullPointerException  If the given value is, or contains, null. */
+@Contract(pure=true)
+@InternalUse
+public @NotNull ValueStore withValue(@NotNull Instance instance, @NotNull Object value) throws NotInitiatedException, NullPointerException {
+  int slot = slotOf(instance);
+
+  ValueStore copy = new ValueStore(this);
+  copy.store(slot, value);
+  return copy;
+}
+}
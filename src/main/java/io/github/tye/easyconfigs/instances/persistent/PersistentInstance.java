@@ -5,6 +5,7 @@ import io.github.tye.easyconfigs.annotations.InternalUse;
 import io.github.tye.easyconfigs.exceptions.NotInitiatedException;
 import io.github.tye.easyconfigs.exceptions.NotOfClassException;
 import io.github.tye.easyconfigs.instances.Instance;
+import io.github.tye.easyconfigs.instances.InstanceDescriptor;
 import org.jetbrains.annotations.NotNull;
 
 /**
@@ -28,7 +29,8 @@ void replaceValue(@NotNull Object value) throws NotOfClassException, NullPointer
 @InternalUse
 @Override
 default Class<?> getAssingedClass() {
-  return PersistentInstanceHandler.assignedClass.get(this);
+  InstanceDescriptor descriptor = InstanceDescriptor.of(this);
+  return descriptor == null ? null : descriptor.assignedClass;
 }
 
 /**
@@ -37,6 +39,7 @@ default Class<?> getAssingedClass() {
 @InternalUse
 @Override
 default String getYamlPath() {
-  return PersistentInstanceHandler.yamlPath.get(this);
+  InstanceDescriptor descriptor = InstanceDescriptor.of(this);
+  return descriptor == null ? null : descriptor.yamlPath;
 }
 }
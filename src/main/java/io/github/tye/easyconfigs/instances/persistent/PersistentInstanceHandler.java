@@ -8,7 +8,13 @@ import io.github.tye.easyconfigs.annotations.InternalUse;
 import io.github.tye.easyconfigs.exceptions.ConfigurationException;
 import io.github.tye.easyconfigs.exceptions.NotInitiatedException;
 import io.github.tye.easyconfigs.exceptions.NotOfClassException;
+import io.github.tye.easyconfigs.instances.LocaleRegistry;
+import io.github.tye.easyconfigs.instances.ValueStore;
 import io.github.tye.easyconfigs.internalConfigs.Lang;
+import io.github.tye.easyconfigs.keys.Bindings;
+import io.github.tye.easyconfigs.keys.LangTemplate;
+import io.github.tye.easyconfigs.keys.RenderCache;
+import io.github.tye.easyconfigs.lists.ObjectList;
 import io.github.tye.easyconfigs.logger.LogType;
 import io.github.tye.easyconfigs.yamls.ReadYaml;
 import io.github.tye.easyconfigs.yamls.WriteYaml;
@@ -25,46 +31,53 @@ import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static io.github.tye.easyconfigs.logger.EasyConfigurationsDefaultLogger.logger;
 
 /**
- Contains information about a persistent only yaml file. */
+ Contains information about a persistent only yaml file.
+ <p>
+ The parsed yaml &amp; its values are held in an immutable {@link Version}. Replacing a value creates
+ a new version that is swapped in as a whole, so values can be read from any thread without locking
+ &amp; a half-applied replacement is never seen. */
 @InternalUse
 public class PersistentInstanceHandler {
 
 /**
- Contains the class an instance stored in a yaml should be parsed as. */
+ The current version of the yaml &amp; its values. */
 @InternalUse
-@NotNull
-public static final HashMap<PersistentInstance, Class<?>> assignedClass = new HashMap<>();
+private volatile @Nullable Version version;
 
 /**
- Contains the path to parse an instance from in a yaml. */
+ The external file that contains the yaml */
 @InternalUse
-@NotNull
-public static final HashMap<PersistentInstance, String> yamlPath = new HashMap<>();
+private final @Nullable File externalFile;
+
+private final @Nullable YamlWriter writer;
 
 /**
- The yaml parsed from a default file. */
-@InternalUse
-private final @Nullable WriteYaml yaml;
+ Contains the amount of yamls that have been queued, but not yet written to the external yaml. */
+private final AtomicInteger pendingWrites = new AtomicInteger();
 
 /**
- The external file that contains the yaml */
+ The cache of rendered lang responses. If this is null, then responses aren't cached. */
 @InternalUse
-private final @Nullable File externalFile;
+private volatile @Nullable RenderCache renderCache = null;
 
-private final @Nullable YamlWriter writer;
+/**
+ Contains the lang values of every locale registered for the lang. */
+@InternalUse
+private final @NotNull LocaleRegistry locales = new LocaleRegistry();
 
 /**
  Constructs an empty {@link PersistentInstanceHandler} with no yaml data. */
 @InternalUse
 public PersistentInstanceHandler() {
-  yaml = null;
+  version = null;
   externalFile = null;
   writer = null;
 }
@@ -91,7 +104,7 @@ public PersistentInstanceHandler(@NotNull String internalPath, @NotNull File ext
   // Initializes the yaml.
   WriteYaml yaml = new WriteYaml(internalPath, externalFile, clazz);
   yaml.parseValues(clazz, internalPath, externalFile.getPath());
-  this.yaml = yaml;
+  this.version = new Version(yaml, new ValueStore(clazz, yaml));
   this.externalFile = externalFile;
 
   // Instantiates the yaml writer.
@@ -99,7 +112,38 @@ public PersistentInstanceHandler(@NotNull String internalPath, @NotNull File ext
   new Thread(writer).start();
 
   // Updates the yaml if it had needed to be repaired.
-  writer.writeYaml(yaml);
+  if (yaml.isRepaired()) writer.writeYaml(yaml);
+}
+
+/**
+ An immutable version of the yaml &amp; the values parsed from it. */
+@InternalUse
+private static final class Version {
+
+  /**
+   The yaml parsed from a default file. */
+  private final @NotNull WriteYaml yaml;
+
+  /**
+   The values parsed from the yaml, indexed by the ordinal of their instance. */
+  private final @NotNull ValueStore values;
+
+  private Version(@NotNull WriteYaml yaml, @NotNull ValueStore values) {
+    this.yaml = yaml;
+    this.values = values;
+  }
+}
+
+/**
+ Gets the values of the current version. The returned values will never change, so a newer version
+ needs to be got to see any replaced values.
+ @return The values of the current version.
+ @throws NotInitiatedException If the yaml hasn't been registered. */
+@InternalUse
+public @NotNull ValueStore getValues() throws NotInitiatedException {
+  Version version = this.version;
+  if (version == null) throw new NotInitiatedException();
+  return version.values;
 }
 
 /**
@@ -185,19 +229,122 @@ private static void renameFileAsInvalid(@NotNull File externalFile) throws IOExc
 }
 
 /**
- Gets the value at the given key from the parsed yaml.
- @param key The key to get the value at.
- @return The value at the given key.
+ Sets the cache that rendered lang responses are stored in.
+ @param renderCache The cache to use, or null to stop caching responses.
+ @throws NotInitiatedException If the handler doesn't contain any values. */
+@InternalUse
+public void setRenderCache(@Nullable RenderCache renderCache) throws NotInitiatedException {
+  if (version == null) throw new NotInitiatedException();
+  this.renderCache = renderCache;
+}
+
+/**
+ @return The cache that rendered lang responses are stored in, or null if responses aren't
+ cached. */
+@InternalUse
+public @Nullable RenderCache getRenderCache() {
+  return renderCache;
+}
+
+/**
+ Renders the value of the given lang instance with the given bindings. If a render cache has been
+ set, then the response is retrieved from it.
+ @param instance The lang instance to render.
+ @param bindings The values to replace the keys with.
+ @return The rendered response.
  @throws NotInitiatedException If the value hasn't been initiated. */
 @InternalUse
-public @NotNull Object getValue(@NotNull String key) throws NotInitiatedException {
-  if (yaml == null) throw new NotInitiatedException();
+public @NotNull String render(@NotNull PersistentInstance instance, @NotNull Bindings bindings) throws NotInitiatedException {
+  LangTemplate template = getValues().getTemplate(instance);
 
-  Object value = yaml.getValue(key);
-  // Shouldn't get thrown as this method is only called from instances.
-  if (value == null) throw new NotInitiatedException(key);
+  RenderCache renderCache = this.renderCache;
+  if (renderCache == null) return template.render(bindings);
+  return renderCache.render(instance, template, bindings);
+}
 
-  return value;
+/**
+ @return The locales registered for the lang.
+ @throws NotInitiatedException If the handler doesn't contain any values. */
+@InternalUse
+public @NotNull LocaleRegistry getLocales() throws NotInitiatedException {
+  if (version == null) throw new NotInitiatedException();
+  return locales;
+}
+
+/**
+ Renders the value of the given lang instance for the given locale with the given bindings. If the
+ value isn't in the locale or any of its fallbacks, then the value without a locale is rendered.
+ @param instance The lang instance to render.
+ @param locale   The locale to render the value of.
+ @param bindings The values to replace the keys with.
+ @return The rendered response.
+ @throws NotInitiatedException If the value hasn't been initiated. */
+@InternalUse
+public @NotNull String render(@NotNull PersistentInstance instance, @NotNull Locale locale, @NotNull Bindings bindings) throws NotInitiatedException {
+  LangTemplate template = locales.get(instance, locale);
+  if (template == null) return render(instance, bindings);
+  return template.render(bindings);
+}
+
+
+/**
+ Gets the {@link SupportedClasses} that the given instance was parsed as.
+ @param instance The instance to get the kind of.
+ @return The kind of the given instance.
+ @throws NotInitiatedException If the value hasn't been initiated. */
+@InternalUse
+public @NotNull SupportedClasses getKind(@NotNull PersistentInstance instance) throws NotInitiatedException {
+  return getValues().getKind(instance);
+}
+
+/**
+ Gets the value of the given instance from the parsed yaml.
+ @param instance The instance to get the value of.
+ @return The value of the given instance.
+ @throws NotInitiatedException If the value hasn't been initiated. */
+@InternalUse
+public @NotNull Object getValue(@NotNull PersistentInstance instance) throws NotInitiatedException {
+  return getValues().getValue(instance);
+}
+
+/**
+ Gets the unboxed value of the given int, short, byte, or char instance from the parsed yaml.
+ @param instance The instance to get the value of.
+ @return The value of the given instance.
+ @throws NotInitiatedException If the value hasn't been initiated. */
+@InternalUse
+public int getInt(@NotNull PersistentInstance instance) throws NotInitiatedException {
+  return getValues().getInt(instance);
+}
+
+/**
+ Gets the unboxed value of the given long instance from the parsed yaml.
+ @param instance The instance to get the value of.
+ @return The value of the given instance.
+ @throws NotInitiatedException If the value hasn't been initiated. */
+@InternalUse
+public long getLong(@NotNull PersistentInstance instance) throws NotInitiatedException {
+  return getValues().getLong(instance);
+}
+
+/**
+ Gets the unboxed value of the given double or float instance from the parsed yaml.
+ @param instance The instance to get the value of.
+ @return The value of the given instance.
+ @throws NotInitiatedException If the value hasn't been initiated. */
+@InternalUse
+public double getDouble(@NotNull PersistentInstance instance) throws NotInitiatedException {
+  return getValues().getDouble(instance);
+}
+
+/**
+ Gets the unboxed value of the given boolean instance from the parsed yaml.
+ @param instance The instance to get the value of.
+ @return The value of the given instance.
+ @throws NotInitiatedException If the value hasn't been initiated. */
+@InternalUse
+public boolean getBoolean(@NotNull PersistentInstance instance) throws NotInitiatedException {
+  return getValues().getBoolean(instance);
 }
 
 /**
@@ -207,8 +354,10 @@ public @NotNull Object getValue(@NotNull String key) throws NotInitiatedExceptio
  @throws NotOfClassException   If the given new value isn't the marked class of the instance.
  @throws NullPointerException  If any of the arguments are null.
  @throws NotInitiatedException If the yaml hasn't been registered. */
-public void replaceValue(@NotNull PersistentInstance instance, @NotNull Object newValue) throws NotOfClassException, NullPointerException, NotInitiatedException {
-  if (yaml == null || writer == null) throw new NotInitiatedException();
+// Replacements are synchronized so concurrent replacements aren't lost. Reads never lock.
+public synchronized void replaceValue(@NotNull PersistentInstance instance, @NotNull Object newValue) throws NotOfClassException, NullPointerException, NotInitiatedException {
+  Version version = this.version;
+  if (version == null || writer == null) throw new NotInitiatedException();
 
   NullCheck.notNull(instance, "instance");
   NullCheck.notNull(newValue, "newValue");
@@ -260,23 +409,44 @@ public void replaceValue(@NotNull PersistentInstance instance, @NotNull Object n
     }
     }
 
-    // Updates the value within cache & external yaml file
-    yaml.replaceValue(instance.getYamlPath(), stringValue, newValue);
-    writer.writeYaml(yaml);
+    // Lists of primitives are stored as primitive arrays, so the new value is parsed into one.
+    // Other lists are copied into a read only list, so the given list can't modify the stored value.
+    Object parsedValue = newValue;
+    switch (asEnum) {
+    case INTEGER_LIST:
+    case LONG_LIST:
+    case DOUBLE_LIST:
+    case BYTE_LIST: {
+      parsedValue = asEnum.parse(newValue);
+      break;
+    }
+    default: {
+      if (asEnum.representsArray()) parsedValue = new ObjectList<>(((List<?>) newValue).toArray());
+      break;
+    }
+    }
+
+    // Creates the new version before publishing it, so readers never see a half-applied replacement.
+    WriteYaml newYaml = version.yaml.withValue(instance.getYamlPath(), stringValue, parsedValue);
+    ValueStore newValues = version.values.withValue(instance, parsedValue);
+    this.version = new Version(newYaml, newValues);
+
+    // Responses rendered from the old value are no longer valid.
+    RenderCache renderCache = this.renderCache;
+    if (renderCache != null) renderCache.invalidate(instance);
+
+    // Updates the external yaml file
+    writer.writeYaml(newYaml);
   }
   catch (ConfigurationException | ClassCastException e) {
     throw new RuntimeException("Never should happen");
   }
 }
 
-/**
- Contains if the external yaml is being written to. */
-private boolean isWriting;
-
 /**
  @return True if the external yaml is being written to. */
 public boolean isWriting() {
-  return isWriting;
+  return pendingWrites.get() > 0;
 }
 
 /**
@@ -305,11 +475,13 @@ private class YamlWriter implements Runnable {
    */
   public void writeYaml(@NotNull WriteYaml toWrite) {
     try {
-      isWriting = true;
+      // Counted before being queued, so the yaml can't be written before it's counted.
+      pendingWrites.incrementAndGet();
       writingQueue.put(toWrite);
     }
     // This error should never happen.
     catch (InterruptedException e) {
+      pendingWrites.decrementAndGet();
       logger.log(LogType.FAILED_EXTERNAL_UPDATE, Lang.failedExternalWrite(externalFile.getPath()));
     }
   }
@@ -318,9 +490,21 @@ private class YamlWriter implements Runnable {
   public void run() {
     // While the thread isn't interrupted write any updates to the external file.
     while (!Thread.interrupted()) {
+      // The amount of queued yamls taken from the queue.
+      int taken = 0;
+
       try {
         // Blocks until there is new data to write.
         WriteYaml yamlToWrite = writingQueue.take();
+        taken++;
+
+        // Only the newest yaml needs to be written, as each yaml contains all previous changes.
+        WriteYaml newerYaml;
+        while ((newerYaml = writingQueue.poll()) != null) {
+          yamlToWrite = newerYaml;
+          taken++;
+        }
+
         // Writes the data to the file
         Files.write(externalFile.toPath(), yamlToWrite.getYaml().getBytes());
       }
@@ -333,9 +517,7 @@ private class YamlWriter implements Runnable {
         return;
       }
       finally {
-        if (writingQueue.isEmpty()) {
-          isWriting = false;
-        }
+        pendingWrites.addAndGet(-taken);
       }
     }
   }
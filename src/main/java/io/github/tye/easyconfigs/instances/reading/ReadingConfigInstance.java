@@ -5,7 +5,15 @@ import io.github.tye.easyconfigs.annotations.ExternalUse;
 import io.github.tye.easyconfigs.annotations.InternalUse;
 import io.github.tye.easyconfigs.exceptions.NotInitiatedException;
 import io.github.tye.easyconfigs.exceptions.NotOfClassException;
+import io.github.tye.easyconfigs.handles.*;
+import io.github.tye.easyconfigs.instances.InstanceDescriptor;
+import io.github.tye.easyconfigs.instances.InstanceRegistry;
+import io.github.tye.easyconfigs.instances.ValueStore;
 import io.github.tye.easyconfigs.internalConfigs.Lang;
+import io.github.tye.easyconfigs.lists.ByteList;
+import io.github.tye.easyconfigs.lists.DoubleList;
+import io.github.tye.easyconfigs.lists.IntList;
+import io.github.tye.easyconfigs.lists.LongList;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
@@ -14,8 +22,6 @@ import java.time.OffsetDateTime;
 import java.time.ZonedDateTime;
 import java.util.List;
 
-import static io.github.tye.easyconfigs.EasyConfigurations.readOnlyConfigInstance;
-
 /**
  This interface must be implemented by an enum to define it as an enum containing different read only
  config options.
@@ -39,8 +45,7 @@ default void init(@NotNull Class<?> markedClass, @NotNull String yamlPath) {
   NullCheck.notNull(markedClass, "Instance of class");
   NullCheck.notNull(yamlPath, "Yaml path");
 
-  ReadingInstanceHandler.assignedClass.put(this, markedClass);
-  ReadingInstanceHandler.yamlPath.put(this, yamlPath);
+  InstanceDescriptor.register(this, markedClass, yamlPath);
 }
 
 /**
@@ -49,11 +54,58 @@ default void init(@NotNull Class<?> markedClass, @NotNull String yamlPath) {
  {@link EasyConfigurations#registerReadOnlyConfig(Class, String)}. */
 @InternalUse
 default @NotNull Object getValue() throws NotInitiatedException {
-  Object configValue = readOnlyConfigInstance.getValue(getYamlPath());
+  // Value will never be null, or contain null, as it is checked when it's stored.
+  return InstanceRegistry.reading(this).getValue(this);
+}
+
+/**
+ Creates a handle bound to this config. The handle only checks the class of this config once, so
+ it's suited for configs that are read very often.
+ @param type The class to retrieve the config value as.
+ @param <T>  The class of the config value.
+ @return A handle to retrieve the value of this config.
+ @throws NotOfClassException If the selected config is a list, or can't be retrieved as the given
+                             class. */
+@ExternalUse
+default <T> @NotNull ConfigHandle<T> handle(@NotNull Class<T> type) throws NotOfClassException {
+  NullCheck.notNull(type, "type");
+  return new ConfigHandle<>(this, false, type);
+}
 
-  // Value will never be null as it is ensured by checks when initializing.
-  NullCheck.notNull(configValue, "configValue");
-  return configValue;
+/**
+ Creates a handle bound to this config that retrieves the value without boxing it.
+ @return A handle to retrieve the value of this config.
+ @throws NotOfClassException If the selected config isn't an Integer value. */
+@ExternalUse
+default @NotNull IntHandle intHandle() throws NotOfClassException {
+  return new IntHandle(this, false);
+}
+
+/**
+ Creates a handle bound to this config that retrieves the value without boxing it.
+ @return A handle to retrieve the value of this config.
+ @throws NotOfClassException If the selected config isn't a Long value. */
+@ExternalUse
+default @NotNull LongHandle longHandle() throws NotOfClassException {
+  return new LongHandle(this, false);
+}
+
+/**
+ Creates a handle bound to this config that retrieves the value without boxing it.
+ @return A handle to retrieve the value of this config.
+ @throws NotOfClassException If the selected config isn't a Double value. */
+@ExternalUse
+default @NotNull DoubleHandle doubleHandle() throws NotOfClassException {
+  return new DoubleHandle(this, false);
+}
+
+/**
+ Creates a handle bound to this config that retrieves the value without boxing it.
+ @return A handle to retrieve the value of this config.
+ @throws NotOfClassException If the selected config isn't a Boolean value. */
+@ExternalUse
+default @NotNull BooleanHandle booleanHandle() throws NotOfClassException {
+  return new BooleanHandle(this, false);
 }
 
 /**
@@ -63,8 +115,7 @@ default @NotNull Object getValue() throws NotInitiatedException {
  {@link EasyConfigurations#registerReadOnlyConfig(Class, String)}. */
 @ExternalUse
 default @NotNull String getAsString() throws NotOfClassException, NotInitiatedException {
-  classCheck(SupportedClasses.STRING, this);
-  return (String) getValue();
+  return (String) classCheck(SupportedClasses.STRING, this).getValue(this);
 }
 
 /**
@@ -74,8 +125,7 @@ default @NotNull String getAsString() throws NotOfClassException, NotInitiatedEx
  {@link EasyConfigurations#registerReadOnlyConfig(Class, String)}. */
 @ExternalUse
 default boolean getAsBoolean() throws NotOfClassException, NotInitiatedException {
-  classCheck(SupportedClasses.BOOLEAN, this);
-  return (boolean) getValue();
+  return classCheck(SupportedClasses.BOOLEAN, this).getBoolean(this);
 }
 
 /**
@@ -85,8 +135,7 @@ default boolean getAsBoolean() throws NotOfClassException, NotInitiatedException
  {@link EasyConfigurations#registerReadOnlyConfig(Class, String)}. */
 @ExternalUse
 default int getAsInteger() throws NotOfClassException, NotInitiatedException {
-  classCheck(SupportedClasses.INTEGER, this);
-  return (int) getValue();
+  return classCheck(SupportedClasses.INTEGER, this).getInt(this);
 }
 
 /**
@@ -96,8 +145,7 @@ default int getAsInteger() throws NotOfClassException, NotInitiatedException {
  {@link EasyConfigurations#registerReadOnlyConfig(Class, String)}. */
 @ExternalUse
 default double getAsDouble() throws NotOfClassException, NotInitiatedException {
-  classCheck(SupportedClasses.DOUBLE, this);
-  return (double) getValue();
+  return classCheck(SupportedClasses.DOUBLE, this).getDouble(this);
 }
 
 /**
@@ -107,8 +155,7 @@ default double getAsDouble() throws NotOfClassException, NotInitiatedException {
  {@link EasyConfigurations#registerReadOnlyConfig(Class, String)}. */
 @ExternalUse
 default float getAsFloat() throws NotOfClassException, NotInitiatedException {
-  classCheck(SupportedClasses.FLOAT, this);
-  return (float) getValue();
+  return (float) classCheck(SupportedClasses.FLOAT, this).getDouble(this);
 }
 
 /**
@@ -118,8 +165,7 @@ default float getAsFloat() throws NotOfClassException, NotInitiatedException {
  {@link EasyConfigurations#registerReadOnlyConfig(Class, String)}. */
 @ExternalUse
 default short getAsShort() throws NotOfClassException, NotInitiatedException {
-  classCheck(SupportedClasses.SHORT, this);
-  return (short) getValue();
+  return (short) classCheck(SupportedClasses.SHORT, this).getInt(this);
 }
 
 /**
@@ -129,8 +175,7 @@ default short getAsShort() throws NotOfClassException, NotInitiatedException {
  {@link EasyConfigurations#registerReadOnlyConfig(Class, String)}. */
 @ExternalUse
 default long getAsLong() throws NotOfClassException, NotInitiatedException {
-  classCheck(SupportedClasses.LONG, this);
-  return (long) getValue();
+  return classCheck(SupportedClasses.LONG, this).getLong(this);
 }
 
 /**
@@ -140,8 +185,7 @@ default long getAsLong() throws NotOfClassException, NotInitiatedException {
  {@link EasyConfigurations#registerReadOnlyConfig(Class, String)}. */
 @ExternalUse
 default byte getAsByte() throws NotOfClassException, NotInitiatedException {
-  classCheck(SupportedClasses.BYTE, this);
-  return (byte) getValue();
+  return (byte) classCheck(SupportedClasses.BYTE, this).getInt(this);
 }
 
 /**
@@ -151,8 +195,7 @@ default byte getAsByte() throws NotOfClassException, NotInitiatedException {
  {@link EasyConfigurations#registerReadOnlyConfig(Class, String)}. */
 @ExternalUse
 default char getAsChar() throws NotOfClassException, NotInitiatedException {
-  classCheck(SupportedClasses.CHAR, this);
-  return (char) getValue();
+  return (char) classCheck(SupportedClasses.CHAR, this).getInt(this);
 }
 
 /**
@@ -162,8 +205,7 @@ default char getAsChar() throws NotOfClassException, NotInitiatedException {
  {@link EasyConfigurations#registerReadOnlyConfig(Class, String)}. */
 @ExternalUse
 default @NotNull LocalDateTime getAsLocalDateTime() throws NotOfClassException, NotInitiatedException {
-  classCheck(SupportedClasses.LOCAL_DATE_TIME, this);
-  return (LocalDateTime) getValue();
+  return (LocalDateTime) classCheck(SupportedClasses.LOCAL_DATE_TIME, this).getValue(this);
 }
 
 /**
@@ -173,8 +215,7 @@ default @NotNull LocalDateTime getAsLocalDateTime() throws NotOfClassException,
  {@link EasyConfigurations#registerReadOnlyConfig(Class, String)}. */
 @ExternalUse
 default @NotNull OffsetDateTime getAsOffsetDateTime() throws NotOfClassException, NotInitiatedException {
-  classCheck(SupportedClasses.OFFSET_DATE_TIME, this);
-  return (OffsetDateTime) getValue();
+  return (OffsetDateTime) classCheck(SupportedClasses.OFFSET_DATE_TIME, this).getValue(this);
 }
 
 /**
@@ -184,8 +225,7 @@ default @NotNull OffsetDateTime getAsOffsetDateTime() throws NotOfClassException
  {@link EasyConfigurations#registerReadOnlyConfig(Class, String)}. */
 @ExternalUse
 default @NotNull ZonedDateTime getAsZonedDateTime() throws NotOfClassException, NotInitiatedException {
-  classCheck(SupportedClasses.ZONED_DATE_TIME, this);
-  return (ZonedDateTime) getValue();
+  return (ZonedDateTime) classCheck(SupportedClasses.ZONED_DATE_TIME, this).getValue(this);
 }
 
 /**
@@ -195,179 +235,224 @@ default @NotNull ZonedDateTime getAsZonedDateTime() throws NotOfClassException,
  {@link EasyConfigurations#registerReadOnlyConfig(Class, String)}. */
 @ExternalUse
 default @NotNull ConfigObject getAsConfigObject() throws NotOfClassException, NotInitiatedException {
-  classCheck(SupportedClasses.CONFIG_OBJECT, this);
-  return (ConfigObject) getValue();
+  return (ConfigObject) classCheck(SupportedClasses.CONFIG_OBJECT, this).getValue(this);
 }
 
 
 /**
- @return Gets a {@link String} list config response.
+ @return Gets a {@link String} list config response. The list can't be
+ modified, so it can be shared without copying it.
  @throws NotOfClassException   If the selected config isn't a string list.
  @throws NotInitiatedException If a config is retrieved before it is registered with
  {@link EasyConfigurations#registerReadOnlyConfig(Class, String)}. */
 @ExternalUse
 default @NotNull List<String> getAsStringList() throws NotOfClassException, NotInitiatedException {
-  classCheck(SupportedClasses.STRING_LIST, this);
-  return (List<String>) getValue();
+  return (List<String>) classCheck(SupportedClasses.STRING_LIST, this).getValue(this);
 }
 
 /**
- @return Gets an {@link Boolean} list config response.
+ @return Gets an {@link Boolean} list config response. The list can't be
+ modified, so it can be shared without copying it.
  @throws NotOfClassException   If the selected config isn't a boolean list.
  @throws NotInitiatedException If a config is retrieved before it is registered with
  {@link EasyConfigurations#registerReadOnlyConfig(Class, String)}. */
 @ExternalUse
 default @NotNull List<Boolean> getAsBooleanList() throws NotOfClassException, NotInitiatedException {
-  classCheck(SupportedClasses.BOOLEAN_LIST, this);
-  return (List<Boolean>) getValue();
+  return (List<Boolean>) classCheck(SupportedClasses.BOOLEAN_LIST, this).getValue(this);
 }
 
 /**
- @return Gets an {@link Integer} list config response.
+ @return Gets an {@link Integer} list config response. The list can't be
+ modified, so it can be shared without copying it.
  @throws NotOfClassException   If the selected config isn't an integer list.
  @throws NotInitiatedException If a config is retrieved before it is registered with
  {@link EasyConfigurations#registerReadOnlyConfig(Class, String)}. */
 @ExternalUse
 default @NotNull List<Integer> getAsIntegerList() throws NotOfClassException, NotInitiatedException {
-  classCheck(SupportedClasses.INTEGER_LIST, this);
-  return (List<Integer>) getValue();
+  return (List<Integer>) classCheck(SupportedClasses.INTEGER_LIST, this).getValue(this);
+}
+
+/**
+ @return Gets a copy of an {@link Integer} list config response as an int array.
+ <p>
+ The array is copied on every call. To read the values without copying them, use
+ {@link #getAsIntegerList()}.
+ @throws NotOfClassException   If the selected config isn't an integer list.
+ @throws NotInitiatedException If a config is retrieved before it is registered with
+ {@link EasyConfigurations#registerReadOnlyConfig(Class, String)}. */
+@ExternalUse
+default @NotNull int[] getAsIntArray() throws NotOfClassException, NotInitiatedException {
+  return ((IntList) classCheck(SupportedClasses.INTEGER_LIST, this).getValue(this)).toIntArray();
 }
 
 /**
- @return Gets a {@link Double} list config response.
+ @return Gets a {@link Double} list config response. The list can't be
+ modified, so it can be shared without copying it.
  @throws NotOfClassException   If the selected config isn't a double list.
  @throws NotInitiatedException If a config is retrieved before it is registered with
  {@link EasyConfigurations#registerReadOnlyConfig(Class, String)}. */
 @ExternalUse
 default @NotNull List<Double> getAsDoubleList() throws NotOfClassException, NotInitiatedException {
-  classCheck(SupportedClasses.DOUBLE_LIST, this);
-  return (List<Double>) getValue();
+  return (List<Double>) classCheck(SupportedClasses.DOUBLE_LIST, this).getValue(this);
 }
 
 /**
- @return Gets a {@link Float} list config response.
+ @return Gets a copy of a {@link Double} list config response as a double array.
+ <p>
+ The array is copied on every call. To read the values without copying them, use
+ {@link #getAsDoubleList()}.
+ @throws NotOfClassException   If the selected config isn't a double list.
+ @throws NotInitiatedException If a config is retrieved before it is registered with
+ {@link EasyConfigurations#registerReadOnlyConfig(Class, String)}. */
+@ExternalUse
+default @NotNull double[] getAsDoubleArray() throws NotOfClassException, NotInitiatedException {
+  return ((DoubleList) classCheck(SupportedClasses.DOUBLE_LIST, this).getValue(this)).toDoubleArray();
+}
+
+/**
+ @return Gets a {@link Float} list config response. The list can't be
+ modified, so it can be shared without copying it.
  @throws NotOfClassException   If the selected config isn't a float list.
  @throws NotInitiatedException If a config is retrieved before it is registered with
  {@link EasyConfigurations#registerReadOnlyConfig(Class, String)}. */
 @ExternalUse
 default @NotNull List<Float> getAsFloatList() throws NotOfClassException, NotInitiatedException {
-  classCheck(SupportedClasses.FLOAT_LIST, this);
-  return (List<Float>) getValue();
+  return (List<Float>) classCheck(SupportedClasses.FLOAT_LIST, this).getValue(this);
 }
 
 /**
- @return Gets a {@link Short} list config response.
+ @return Gets a {@link Short} list config response. The list can't be
+ modified, so it can be shared without copying it.
  @throws NotOfClassException   If the selected config isn't a short list.
  @throws NotInitiatedException If a config is retrieved before it is registered with
  {@link EasyConfigurations#registerReadOnlyConfig(Class, String)}. */
 @ExternalUse
 default @NotNull List<Short> getAsShortList() throws NotOfClassException, NotInitiatedException {
-  classCheck(SupportedClasses.SHORT_LIST, this);
-  return (List<Short>) getValue();
+  return (List<Short>) classCheck(SupportedClasses.SHORT_LIST, this).getValue(this);
 }
 
 /**
- @return Gets a {@link Long} list config response.
+ @return Gets a {@link Long} list config response. The list can't be
+ modified, so it can be shared without copying it.
  @throws NotOfClassException   If the selected config isn't a long list.
  @throws NotInitiatedException If a config is retrieved before it is registered with
  {@link EasyConfigurations#registerReadOnlyConfig(Class, String)}. */
 @ExternalUse
 default @NotNull List<Long> getAsLongList() throws NotOfClassException, NotInitiatedException {
-  classCheck(SupportedClasses.LONG_LIST, this);
-  return (List<Long>) getValue();
+  return (List<Long>) classCheck(SupportedClasses.LONG_LIST, this).getValue(this);
+}
+
+/**
+ @return Gets a copy of a {@link Long} list config response as a long array.
+ <p>
+ The array is copied on every call. To read the values without copying them, use
+ {@link #getAsLongList()}.
+ @throws NotOfClassException   If the selected config isn't a long list.
+ @throws NotInitiatedException If a config is retrieved before it is registered with
+ {@link EasyConfigurations#registerReadOnlyConfig(Class, String)}. */
+@ExternalUse
+default @NotNull long[] getAsLongArray() throws NotOfClassException, NotInitiatedException {
+  return ((LongList) classCheck(SupportedClasses.LONG_LIST, this).getValue(this)).toLongArray();
 }
 
 /**
- @return Gets a {@link Byte} list config response.
+ @return Gets a {@link Byte} list config response. The list can't be
+ modified, so it can be shared without copying it.
  @throws NotOfClassException   If the selected config isn't a byte list.
  @throws NotInitiatedException If a config is retrieved before it is registered with
  {@link EasyConfigurations#registerReadOnlyConfig(Class, String)}. */
 @ExternalUse
 default @NotNull List<Byte> getAsByteList() throws NotOfClassException, NotInitiatedException {
-  classCheck(SupportedClasses.BYTE_LIST, this);
-  return (List<Byte>) getValue();
+  return (List<Byte>) classCheck(SupportedClasses.BYTE_LIST, this).getValue(this);
+}
+
+/**
+ @return Gets a copy of a {@link Byte} list config response as a byte array.
+ <p>
+ The array is copied on every call. To read the values without copying them, use
+ {@link #getAsByteList()}.
+ @throws NotOfClassException   If the selected config isn't a byte list.
+ @throws NotInitiatedException If a config is retrieved before it is registered with
+ {@link EasyConfigurations#registerReadOnlyConfig(Class, String)}. */
+@ExternalUse
+default @NotNull byte[] getAsByteArray() throws NotOfClassException, NotInitiatedException {
+  return ((ByteList) classCheck(SupportedClasses.BYTE_LIST, this).getValue(this)).toByteArray();
 }
 
 /**
- @return Gets a {@link Character} list config response.
+ @return Gets a {@link Character} list config response. The list can't be
+ modified, so it can be shared without copying it.
  @throws NotOfClassException   If the selected config isn't a char list.
  @throws NotInitiatedException If a config is retrieved before it is registered with
  {@link EasyConfigurations#registerReadOnlyConfig(Class, String)}. */
 @ExternalUse
 default @NotNull List<Character> getAsCharList() throws NotOfClassException, NotInitiatedException {
-  classCheck(SupportedClasses.CHAR_LIST, this);
-  return (List<Character>) getValue();
+  return (List<Character>) classCheck(SupportedClasses.CHAR_LIST, this).getValue(this);
 }
 
 /**
- @return Gets a {@link LocalDateTime} list config response.
+ @return Gets a {@link LocalDateTime} list config response. The list can't be
+ modified, so it can be shared without copying it.
  @throws NotOfClassException   If the selected config isn't a local date time list.
  @throws NotInitiatedException If a config is retrieved before it is registered with
  {@link EasyConfigurations#registerReadOnlyConfig(Class, String)}. */
 @ExternalUse
 default @NotNull List<LocalDateTime> getAsLocalDateTimeList() throws NotOfClassException, NotInitiatedException {
-  classCheck(SupportedClasses.LOCAL_DATE_TIME_LIST, this);
-  return (List<LocalDateTime>) getValue();
+  return (List<LocalDateTime>) classCheck(SupportedClasses.LOCAL_DATE_TIME_LIST, this).getValue(this);
 }
 
 /**
- @return Gets a {@link OffsetDateTime} list config response.
+ @return Gets a {@link OffsetDateTime} list config response. The list can't be
+ modified, so it can be shared without copying it.
  @throws NotOfClassException   If the selected config isn't an offset date time list.
  @throws NotInitiatedException If a config is retrieved before it is registered with
  {@link EasyConfigurations#registerReadOnlyConfig(Class, String)}. */
 @ExternalUse
 default @NotNull List<OffsetDateTime> getAsOffsetDateTimeList() throws NotOfClassException, NotInitiatedException {
-  classCheck(SupportedClasses.OFFSET_DATE_TIME_LIST, this);
-  return (List<OffsetDateTime>) getValue();
+  return (List<OffsetDateTime>) classCheck(SupportedClasses.OFFSET_DATE_TIME_LIST, this).getValue(this);
 }
 
 /**
- @return Gets a {@link ZonedDateTime} list config response.
+ @return Gets a {@link ZonedDateTime} list config response. The list can't be
+ modified, so it can be shared without copying it.
  @throws NotOfClassException   If the selected config isn't a zoned date time list.
  @throws NotInitiatedException If a config is retrieved before it is registered with
  {@link EasyConfigurations#registerReadOnlyConfig(Class, String)}. */
 @ExternalUse
 default @NotNull List<ZonedDateTime> getAsZonedDateTimeList() throws NotOfClassException, NotInitiatedException {
-  classCheck(SupportedClasses.ZONED_DATE_TIME_LIST, this);
-  return (List<ZonedDateTime>) getValue();
+  return (List<ZonedDateTime>) classCheck(SupportedClasses.ZONED_DATE_TIME_LIST, this).getValue(this);
 }
 
 /**
- @return Gets a {@link ConfigObject} list config response.
+ @return Gets a {@link ConfigObject} list config response. The list can't be
+ modified, so it can be shared without copying it.
  @throws NotOfClassException   If the selected config isn't a config object list.
  @throws NotInitiatedException If a config is retrieved before it is registered with
  {@link EasyConfigurations#registerReadOnlyConfig(Class, String)}. */
 @ExternalUse
 default @NotNull List<ConfigObject> getAsConfigObjectList() throws NotOfClassException, NotInitiatedException {
-  classCheck(SupportedClasses.CONFIG_OBJECT_LIST, this);
-  return (List<ConfigObject>) getValue();
+  return (List<ConfigObject>) classCheck(SupportedClasses.CONFIG_OBJECT_LIST, this).getValue(this);
 }
 
 
 /**
  Checks if the intendedType matches the actual object type in the map that the instance points to.
+ <p>
+ The class of every instance is resolved when the values are parsed, so this only compares the
+ resolved kind. The error message is only constructed if the check fails.
+ <p>
+ The value should be read from the returned store, so the handler of the instance is only resolved
+ once per retrieval.
  @param readingInstance The instance of config or lang to check against.
  @param intendedType    The {@link SupportedClasses} that the map value should be.
- @throws NotOfClassException If the intended type doesn't match the actual type in the map. */
+ @return The store containing the value of the instance.
+ @throws NotOfClassException   If the intended type doesn't match the actual type in the map.
+ @throws NotInitiatedException If a config is checked before it is registered. */
 @InternalUse
-static void classCheck(@NotNull SupportedClasses intendedType, @NotNull ReadingInstance readingInstance) throws NotOfClassException {
-  Class<?> assignedClass = ReadingInstanceHandler.assignedClass.get(readingInstance);
-  StringBuilder classNames = new StringBuilder();
-
-  // Checks if the instance is parsed as the correct class.
-  for (Class<?> clazz : intendedType.getClasses()) {
-    if (assignedClass.equals(clazz)) return;
-
-    // Checks if the class implements config object
-    for (Class<?> interfaces : Classes.getComponent(assignedClass).getInterfaces()) {
-      if (interfaces.equals(Classes.getComponent(clazz))) return;
-    }
-
-    // Constructs an error from the classes this instance should be.
-    classNames.append(Classes.getName(clazz))
-              .append(" ");
-  }
+static @NotNull ValueStore classCheck(@NotNull SupportedClasses intendedType, @NotNull ReadingInstance readingInstance) throws NotOfClassException, NotInitiatedException {
+  ValueStore values = InstanceRegistry.reading(readingInstance).getValues();
+  if (values.getKind(readingInstance) == intendedType) return values;
 
-  throw new NotOfClassException(Lang.notOfClass(readingInstance.getYamlPath(), classNames.toString()));
+  throw new NotOfClassException(Lang.notOfClass(readingInstance.getYamlPath(), intendedType.getClassNames()));
 }
 }
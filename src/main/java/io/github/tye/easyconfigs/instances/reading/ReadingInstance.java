@@ -2,6 +2,7 @@ package io.github.tye.easyconfigs.instances.reading;
 
 import io.github.tye.easyconfigs.annotations.InternalUse;
 import io.github.tye.easyconfigs.instances.Instance;
+import io.github.tye.easyconfigs.instances.InstanceDescriptor;
 
 /**
  Contains the methods that {@link ReadingConfigInstance} &amp; {@link ReadingLangInstance} require. */
@@ -14,7 +15,8 @@ public interface ReadingInstance extends Instance {
 @InternalUse
 @Override
 default Class<?> getAssingedClass() {
-  return ReadingInstanceHandler.assignedClass.get(this);
+  InstanceDescriptor descriptor = InstanceDescriptor.of(this);
+  return descriptor == null ? null : descriptor.assignedClass;
 }
 
 /**
@@ -23,7 +25,8 @@ default Class<?> getAssingedClass() {
 @InternalUse
 @Override
 default String getYamlPath() {
-  return ReadingInstanceHandler.yamlPath.get(this);
+  InstanceDescriptor descriptor = InstanceDescriptor.of(this);
+  return descriptor == null ? null : descriptor.yamlPath;
 }
 
 }
@@ -1,16 +1,24 @@
 package io.github.tye.easyconfigs.instances.reading;
 
+import io.github.tye.easyconfigs.SupportedClasses;
 import io.github.tye.easyconfigs.annotations.InternalUse;
 import io.github.tye.easyconfigs.exceptions.ConfigurationException;
 import io.github.tye.easyconfigs.exceptions.NotInitiatedException;
+import io.github.tye.easyconfigs.instances.Instance;
+import io.github.tye.easyconfigs.instances.LocaleRegistry;
+import io.github.tye.easyconfigs.instances.ValueStore;
 import io.github.tye.easyconfigs.internalConfigs.Lang;
+import io.github.tye.easyconfigs.keys.Bindings;
+import io.github.tye.easyconfigs.keys.LangTemplate;
+import io.github.tye.easyconfigs.keys.RenderCache;
 import io.github.tye.easyconfigs.yamls.ReadYaml;
+import io.github.tye.easyconfigs.yamls.StreamedYaml;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.HashMap;
+import java.util.Locale;
 
 /**
  Contains information about a parsed read only yaml file. */
@@ -18,22 +26,19 @@ import java.util.HashMap;
 public class ReadingInstanceHandler {
 
 /**
- Contains the class an instance stored in a yaml should be parsed as. */
+ The values parsed from a default file, indexed by the ordinal of their instance. */
 @InternalUse
-@NotNull
-public static final HashMap<ReadingInstance, Class<?>> assignedClass = new HashMap<>();
+private final @Nullable ValueStore values;
 
 /**
- Contains the path to parse an instance from in a yaml. */
+ The cache of rendered lang responses. If this is null, then responses aren't cached. */
 @InternalUse
-@NotNull
-public static final HashMap<ReadingInstance, String> yamlPath = new HashMap<>();
-
+private volatile @Nullable RenderCache renderCache = null;
 
 /**
- The yaml parsed from a default file. */
+ Contains the lang values of every locale registered for the lang. */
 @InternalUse
-private final @Nullable ReadYaml yaml;
+private final @NotNull LocaleRegistry locales = new LocaleRegistry();
 
 
 /**
@@ -41,7 +46,7 @@ private final @Nullable ReadYaml yaml;
  {@link ReadingInstanceHandler#ReadingInstanceHandler(String, Class)} before being used. */
 @InternalUse
 public ReadingInstanceHandler() {
-  this.yaml = null;
+  this.values = null;
 }
 
 
@@ -69,30 +74,144 @@ public ReadingInstanceHandler(@NotNull String path, @NotNull Class<? extends Rea
   try (InputStream inputStream = clazz.getResourceAsStream(path)) {
     if (inputStream == null) throw new IOException(Lang.configNotReadable(path));
 
-    // Initializes the yaml
-    ReadYaml yaml = new ReadYaml(inputStream);
+    // Initializes the yaml without creating its nodes.
+    ReadYaml yaml = new StreamedYaml(inputStream);
     yaml.warnUnusedKeys(clazz, path);
     yaml.parseValues(clazz, path);
 
-    this.yaml = yaml;
+    // The yaml isn't kept, as read only values never need to be written back.
+    this.values = new ValueStore(clazz, yaml);
   }
 }
 
 
 /**
- Gets the value at the given key from the parsed yaml.
- @param key The key to get the value at.
- @return The value at the given key.
+ Gets the values parsed from the yaml.
+ @return The values parsed from the yaml.
+ @throws NotInitiatedException If the yaml hasn't been registered. */
+@InternalUse
+public @NotNull ValueStore getValues() throws NotInitiatedException {
+  if (values == null) throw new NotInitiatedException();
+  return values;
+}
+
+/**
+ Sets the cache that rendered lang responses are stored in.
+ @param renderCache The cache to use, or null to stop caching responses.
+ @throws NotInitiatedException If the handler doesn't contain any values. */
+@InternalUse
+public void setRenderCache(@Nullable RenderCache renderCache) throws NotInitiatedException {
+  if (values == null) throw new NotInitiatedException();
+  this.renderCache = renderCache;
+}
+
+/**
+ @return The cache that rendered lang responses are stored in, or null if responses aren't
+ cached. */
+@InternalUse
+public @Nullable RenderCache getRenderCache() {
+  return renderCache;
+}
+
+/**
+ Renders the value of the given lang instance with the given bindings. If a render cache has been
+ set, then the response is retrieved from it.
+ @param instance The lang instance to render.
+ @param bindings The values to replace the keys with.
+ @return The rendered response.
+ @throws NotInitiatedException If the value hasn't been initiated. */
+@InternalUse
+public @NotNull String render(@NotNull Instance instance, @NotNull Bindings bindings) throws NotInitiatedException {
+  LangTemplate template = getValues().getTemplate(instance);
+
+  RenderCache renderCache = this.renderCache;
+  if (renderCache == null) return template.render(bindings);
+  return renderCache.render(instance, template, bindings);
+}
+
+/**
+ @return The locales registered for the lang.
+ @throws NotInitiatedException If the handler doesn't contain any values. */
+@InternalUse
+public @NotNull LocaleRegistry getLocales() throws NotInitiatedException {
+  if (values == null) throw new NotInitiatedException();
+  return locales;
+}
+
+/**
+ Renders the value of the given lang instance for the given locale with the given bindings. If the
+ value isn't in the locale or any of its fallbacks, then the value without a locale is rendered.
+ @param instance The lang instance to render.
+ @param locale   The locale to render the value of.
+ @param bindings The values to replace the keys with.
+ @return The rendered response.
+ @throws NotInitiatedException If the value hasn't been initiated. */
+@InternalUse
+public @NotNull String render(@NotNull Instance instance, @NotNull Locale locale, @NotNull Bindings bindings) throws NotInitiatedException {
+  LangTemplate template = locales.get(instance, locale);
+  if (template == null) return render(instance, bindings);
+  return template.render(bindings);
+}
+
+
+/**
+ Gets the {@link SupportedClasses} that the given instance was parsed as.
+ @param instance The instance to get the kind of.
+ @return The kind of the given instance.
+ @throws NotInitiatedException If the value hasn't been initiated. */
+@InternalUse
+public @NotNull SupportedClasses getKind(@NotNull Instance instance) throws NotInitiatedException {
+  return getValues().getKind(instance);
+}
+
+/**
+ Gets the value of the given instance from the parsed yaml.
+ @param instance The instance to get the value of.
+ @return The value of the given instance.
+ @throws NotInitiatedException If the value hasn't been initiated. */
+@InternalUse
+public @NotNull Object getValue(@NotNull Instance instance) throws NotInitiatedException {
+  return getValues().getValue(instance);
+}
+
+/**
+ Gets the unboxed value of the given int, short, byte, or char instance from the parsed yaml.
+ @param instance The instance to get the value of.
+ @return The value of the given instance.
+ @throws NotInitiatedException If the value hasn't been initiated. */
+@InternalUse
+public int getInt(@NotNull Instance instance) throws NotInitiatedException {
+  return getValues().getInt(instance);
+}
+
+/**
+ Gets the unboxed value of the given long instance from the parsed yaml.
+ @param instance The instance to get the value of.
+ @return The value of the given instance.
  @throws NotInitiatedException If the value hasn't been initiated. */
 @InternalUse
-public @NotNull Object getValue(@NotNull String key) throws NotInitiatedException {
-  if (yaml == null) throw new NotInitiatedException();
+public long getLong(@NotNull Instance instance) throws NotInitiatedException {
+  return getValues().getLong(instance);
+}
 
-  Object value = yaml.getValue(key);
-  // Shouldn't get thrown as this method is only called from instances.
-  if (value == null) throw new NotInitiatedException(key);
+/**
+ Gets the unboxed value of the given double or float instance from the parsed yaml.
+ @param instance The instance to get the value of.
+ @return The value of the given instance.
+ @throws NotInitiatedException If the value hasn't been initiated. */
+@InternalUse
+public double getDouble(@NotNull Instance instance) throws NotInitiatedException {
+  return getValues().getDouble(instance);
+}
 
-  return value;
+/**
+ Gets the unboxed value of the given boolean instance from the parsed yaml.
+ @param instance The instance to get the value of.
+ @return The value of the given instance.
+ @throws NotInitiatedException If the value hasn't been initiated. */
+@InternalUse
+public boolean getBoolean(@NotNull Instance instance) throws NotInitiatedException {
+  return getValues().getBoolean(instance);
 }
 
 }
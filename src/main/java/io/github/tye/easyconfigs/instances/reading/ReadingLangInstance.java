@@ -4,10 +4,18 @@ import io.github.tye.easyconfigs.NullCheck;
 import io.github.tye.easyconfigs.annotations.ExternalUse;
 import io.github.tye.easyconfigs.annotations.InternalUse;
 import io.github.tye.easyconfigs.exceptions.NotInitiatedException;
+import io.github.tye.easyconfigs.instances.InstanceDescriptor;
+import io.github.tye.easyconfigs.instances.InstanceRegistry;
+import io.github.tye.easyconfigs.keys.Bindings;
 import io.github.tye.easyconfigs.keys.Keys;
 import org.jetbrains.annotations.NotNull;
 
-import static io.github.tye.easyconfigs.EasyConfigurations.readOnlyLangInstance;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.util.Locale;
 
 /**
  This interface must be implemented by an enum to define it as an enum containing the different read
@@ -26,18 +34,13 @@ public interface ReadingLangInstance extends ReadingInstance {
  @param yamlPath The key path of the yaml value to parse as the lang. */
 @ExternalUse
 default void init(@NotNull String yamlPath) {
-  ReadingInstanceHandler.yamlPath.put(this, yamlPath);
-}
-
+  NullCheck.notNull(yamlPath, "Yaml path");
 
-/**
- @return {@link String#getClass()} as all langs are strings. */
-@InternalUse
-@Override
-default Class<?> getAssingedClass() {
-  return String.class;
+  // All lang values are strings.
+  InstanceDescriptor.register(this, String.class, yamlPath);
 }
 
+
 /**
  Gets the string response for the selected enum, with any matching keys replaced.
  @param keys The keys to modify the response with.
@@ -51,25 +54,330 @@ default Class<?> getAssingedClass() {
 default @NotNull String get(@NotNull Keys... keys) throws NotInitiatedException, NullPointerException {
   NullCheck.notNull(keys, "keys");
 
-  // Won't be null as the lang will be initialized.
-  String response = readOnlyLangInstance.getValue(getYamlPath()).toString();
+  // The value is split into its keys when it's parsed, so it's rendered in a single pass.
+  return InstanceRegistry.reading(this).render(this, Bindings.consume(keys));
+}
+
+/**
+ Gets the string response for the selected enum, with any bound keys replaced.
+ <p>
+ Bindings don't modify any shared state, so the same lang can be rendered with different bindings on
+ multiple threads at the same time.
+ @param bindings The values to replace the keys with.
+ @return The modified string.
+ @throws NullPointerException If the given argument is null.
+ @throws NotInitiatedException If a lang is retrieved before it is registered with
+ {@link
+ io.github.tye.easyconfigs.EasyConfigurations#registerReadOnlyLang(Class,
+     String) EasyConfigurations#registerReadOnlyLang(Class, String)} */
+@ExternalUse
+default @NotNull String get(@NotNull Bindings bindings) throws NotInitiatedException, NullPointerException {
+  NullCheck.notNull(bindings, "Bindings");
+  return InstanceRegistry.reading(this).render(this, bindings);
+}
+
+/**
+ Gets the string response for the selected enum in the given locale, with any matching keys
+ replaced. If the response isn't in the locale or any of its fallbacks, then the response without a
+ locale is used.
+ @param locale The locale to get the response in.
+ @param keys   The keys to modify the response with.
+ @return The modified string.
+ @throws NullPointerException If any of the arguments are null.
+ @throws NotInitiatedException If a lang is retrieved before it is registered. */
+@ExternalUse
+default @NotNull String get(@NotNull Locale locale, @NotNull Keys... keys) throws NotInitiatedException, NullPointerException {
+  NullCheck.notNull(keys, "keys");
+  return get(locale, Bindings.consume(keys));
+}
+
+/**
+ Gets the string response for the selected enum in the given locale, with any bound keys replaced.
+ If the response isn't in the locale or any of its fallbacks, then the response without a locale is
+ used.
+ @param locale   The locale to get the response in.
+ @param bindings The values to replace the keys with.
+ @return The modified string.
+ @throws NullPointerException If any of the arguments are null.
+ @throws NotInitiatedException If a lang is retrieved before it is registered. */
+@ExternalUse
+default @NotNull String get(@NotNull Locale locale, @NotNull Bindings bindings) throws NotInitiatedException, NullPointerException {
+  NullCheck.notNull(locale, "Locale");
+  NullCheck.notNull(bindings, "Bindings");
+  return InstanceRegistry.reading(this).render(this, locale, bindings);
+}
+
+/**
+ Gets the string response for the selected enum, with the given key replaced by the given value.
+ This doesn't create an array of keys or any bindings. The number is appended
+ straight into the response, so it isn't converted to a string first.
+ @param key   The key to replace.
+ @param value The number to replace the key with.
+ @return The modified string.
+ @throws NullPointerException If any of the arguments are null.
+ @throws NotInitiatedException If a lang is retrieved before it is registered. */
+@ExternalUse
+default @NotNull String get(@NotNull Keys key, long value) throws NotInitiatedException, NullPointerException {
+  NullCheck.notNull(key, "Key");
+  return InstanceRegistry.reading(this).getValues().getTemplate(this).render(key, value);
+}
+
+/**
+ Gets the string response for the selected enum, with the given key replaced by the given value.
+ This doesn't create an array of keys or any bindings. The number is appended
+ straight into the response, so it isn't converted to a string first.
+ @param key   The key to replace.
+ @param value The number to replace the key with.
+ @return The modified string.
+ @throws NullPointerException If any of the arguments are null.
+ @throws NotInitiatedException If a lang is retrieved before it is registered. */
+@ExternalUse
+default @NotNull String get(@NotNull Keys key, double value) throws NotInitiatedException, NullPointerException {
+  NullCheck.notNull(key, "Key");
+  return InstanceRegistry.reading(this).getValues().getTemplate(this).render(key, value);
+}
+
+/**
+ Gets the string response for the selected enum, with the given key replaced by the given value.
+ This doesn't create an array of keys or any bindings.
+ @param key   The key to replace.
+ @param value The char to replace the key with.
+ @return The modified string.
+ @throws NullPointerException If any of the arguments are null.
+ @throws NotInitiatedException If a lang is retrieved before it is registered. */
+@ExternalUse
+default @NotNull String get(@NotNull Keys key, char value) throws NotInitiatedException, NullPointerException {
+  NullCheck.notNull(key, "Key");
+  return InstanceRegistry.reading(this).getValues().getTemplate(this).render(key, value);
+}
+
+/**
+ Gets the string response for the selected enum, with the given key replaced by the given value.
+ This doesn't create an array of keys or any bindings.
+ @param key   The key to replace.
+ @param value The text to replace the key with.
+ @return The modified string.
+ @throws NullPointerException If any of the arguments are null.
+ @throws NotInitiatedException If a lang is retrieved before it is registered. */
+@ExternalUse
+default @NotNull String get(@NotNull Keys key, @NotNull CharSequence value) throws NotInitiatedException, NullPointerException {
+  NullCheck.notNull(key, "Key");
+  NullCheck.notNull(value, "Replacement string");
+  return InstanceRegistry.reading(this).getValues().getTemplate(this).render(key, value);
+}
+
+
+/**
+ Appends the string response for the selected enum to the given builder, with any matching keys
+ replaced. The response is appended directly, so no intermediate string is created.
+ @param out  The builder to append the response to.
+ @param keys The keys to modify the response with.
+ @throws NullPointerException If any of the arguments are null.
+ @throws NotInitiatedException If a lang is retrieved before it is registered with
+ {@link
+ io.github.tye.easyconfigs.EasyConfigurations#registerReadOnlyLang(Class,
+     String) EasyConfigurations#registerReadOnlyLang(Class, String)} */
+@ExternalUse
+default void appendTo(@NotNull StringBuilder out, @NotNull Keys... keys) throws NotInitiatedException, NullPointerException {
+  NullCheck.notNull(out, "Output");
+  NullCheck.notNull(keys, "keys");
+  InstanceRegistry.reading(this).getValues().getTemplate(this).appendTo(out, keys);
+}
+
+/**
+ Appends the string response for the selected enum to the given builder, with any bound keys
+ replaced. The response is appended directly, so no intermediate string is created.
+ @param out      The builder to append the response to.
+ @param bindings The values to replace the keys with.
+ @throws NullPointerException If any of the arguments are null.
+ @throws NotInitiatedException If a lang is retrieved before it is registered with
+ {@link
+ io.github.tye.easyconfigs.EasyConfigurations#registerReadOnlyLang(Class,
+     String) EasyConfigurations#registerReadOnlyLang(Class, String)} */
+@ExternalUse
+default void appendTo(@NotNull StringBuilder out, @NotNull Bindings bindings) throws NotInitiatedException, NullPointerException {
+  NullCheck.notNull(out, "Output");
+  NullCheck.notNull(bindings, "Bindings");
+  InstanceRegistry.reading(this).getValues().getTemplate(this).appendTo(out, bindings);
+}
+
+/**
+ Appends the string response for the selected enum to the given builder, with the given key replaced
+ by the given value. This doesn't create an array of keys or any bindings. The number is appended
+ straight into the response, so it isn't converted to a string first.
+ @param out   The builder to append the response to.
+ @param key   The key to replace.
+ @param value The number to replace the key with.
+ @throws NullPointerException If any of the arguments are null.
+ @throws NotInitiatedException If a lang is retrieved before it is registered. */
+@ExternalUse
+default void appendTo(@NotNull StringBuilder out, @NotNull Keys key, long value) throws NotInitiatedException, NullPointerException {
+  NullCheck.notNull(out, "Output");
+  NullCheck.notNull(key, "Key");
+  InstanceRegistry.reading(this).getValues().getTemplate(this).appendTo(out, key, value);
+}
 
-  // Replaces the keys within the response with their set replace value.
-  for (Keys registeredKey : keys) {
-    int replacementIndex = response.indexOf(registeredKey.getToReplace());
+/**
+ Appends the string response for the selected enum to the given builder, with the given key replaced
+ by the given value. This doesn't create an array of keys or any bindings. The number is appended
+ straight into the response, so it isn't converted to a string first.
+ @param out   The builder to append the response to.
+ @param key   The key to replace.
+ @param value The number to replace the key with.
+ @throws NullPointerException If any of the arguments are null.
+ @throws NotInitiatedException If a lang is retrieved before it is registered. */
+@ExternalUse
+default void appendTo(@NotNull StringBuilder out, @NotNull Keys key, double value) throws NotInitiatedException, NullPointerException {
+  NullCheck.notNull(out, "Output");
+  NullCheck.notNull(key, "Key");
+  InstanceRegistry.reading(this).getValues().getTemplate(this).appendTo(out, key, value);
+}
 
-    // Replaces every instance of the found key within the response string.
-    while (replacementIndex != -1) {
-      String stringStart = response.substring(0, replacementIndex);
-      String stringEnd = response.substring(replacementIndex + registeredKey.getToReplace().length());
+/**
+ Appends the string response for the selected enum to the given builder, with the given key replaced
+ by the given value. This doesn't create an array of keys or any bindings.
+ @param out   The builder to append the response to.
+ @param key   The key to replace.
+ @param value The char to replace the key with.
+ @throws NullPointerException If any of the arguments are null.
+ @throws NotInitiatedException If a lang is retrieved before it is registered. */
+@ExternalUse
+default void appendTo(@NotNull StringBuilder out, @NotNull Keys key, char value) throws NotInitiatedException, NullPointerException {
+  NullCheck.notNull(out, "Output");
+  NullCheck.notNull(key, "Key");
+  InstanceRegistry.reading(this).getValues().getTemplate(this).appendTo(out, key, value);
+}
 
-      response = stringStart + registeredKey.getReplaceWith() + stringEnd;
+/**
+ Appends the string response for the selected enum to the given builder, with the given key replaced
+ by the given value. This doesn't create an array of keys or any bindings.
+ @param out   The builder to append the response to.
+ @param key   The key to replace.
+ @param value The text to replace the key with.
+ @throws NullPointerException If any of the arguments are null.
+ @throws NotInitiatedException If a lang is retrieved before it is registered. */
+@ExternalUse
+default void appendTo(@NotNull StringBuilder out, @NotNull Keys key, @NotNull CharSequence value) throws NotInitiatedException, NullPointerException {
+  NullCheck.notNull(out, "Output");
+  NullCheck.notNull(key, "Key");
+  NullCheck.notNull(value, "Replacement string");
+  InstanceRegistry.reading(this).getValues().getTemplate(this).appendTo(out, key, value);
+}
 
-      replacementIndex = response.indexOf(registeredKey.getToReplace());
-    }
-  }
+/**
+ Appends the string response for the selected enum to the given output, with any matching keys
+ replaced. The response is appended directly, so no intermediate string is created. This can be
+ used to write the response straight into a {@link java.io.Writer} or {@link java.nio.CharBuffer}.
+ @param out  The output to append the response to.
+ @param keys The keys to modify the response with.
+ @throws IOException          If the output couldn't be appended to.
+ @throws NullPointerException If any of the arguments are null.
+ @throws NotInitiatedException If a lang is retrieved before it is registered with
+ {@link
+ io.github.tye.easyconfigs.EasyConfigurations#registerReadOnlyLang(Class,
+     String) EasyConfigurations#registerReadOnlyLang(Class, String)} */
+@ExternalUse
+default void appendTo(@NotNull Appendable out, @NotNull Keys... keys) throws IOException, NotInitiatedException, NullPointerException {
+  NullCheck.notNull(out, "Output");
+  NullCheck.notNull(keys, "keys");
+  InstanceRegistry.reading(this).getValues().getTemplate(this).appendTo(out, keys);
+}
 
-  return response;
+/**
+ Appends the string response for the selected enum to the given output, with any bound keys
+ replaced. The response is appended directly, so no intermediate string is created. This can be
+ used to write the response straight into a {@link java.io.Writer} or {@link java.nio.CharBuffer}.
+ @param out      The output to append the response to.
+ @param bindings The values to replace the keys with.
+ @throws IOException          If the output couldn't be appended to.
+ @throws NullPointerException If any of the arguments are null.
+ @throws NotInitiatedException If a lang is retrieved before it is registered with
+ {@link
+ io.github.tye.easyconfigs.EasyConfigurations#registerReadOnlyLang(Class,
+     String) EasyConfigurations#registerReadOnlyLang(Class, String)} */
+@ExternalUse
+default void appendTo(@NotNull Appendable out, @NotNull Bindings bindings) throws IOException, NotInitiatedException, NullPointerException {
+  NullCheck.notNull(out, "Output");
+  NullCheck.notNull(bindings, "Bindings");
+  InstanceRegistry.reading(this).getValues().getTemplate(this).appendTo(out, bindings);
 }
+
+
+/**
+ Writes the string response for the selected enum to the given stream as UTF-8, with any matching
+ keys replaced. The text of the lang is encoded when it's registered, so only the replaced keys are
+ encoded.
+ @param out  The stream to write the response to.
+ @param keys The keys to modify the response with.
+ @throws IOException          If the stream couldn't be written to.
+ @throws NullPointerException If any of the arguments are null.
+ @throws NotInitiatedException If a lang is retrieved before it is registered with
+ {@link
+ io.github.tye.easyconfigs.EasyConfigurations#registerReadOnlyLang(Class,
+     String) EasyConfigurations#registerReadOnlyLang(Class, String)} */
+@ExternalUse
+default void writeTo(@NotNull OutputStream out, @NotNull Keys... keys) throws IOException, NotInitiatedException, NullPointerException {
+  NullCheck.notNull(out, "Output");
+  NullCheck.notNull(keys, "keys");
+  InstanceRegistry.reading(this).getValues().getTemplate(this).writeTo(out, Bindings.consume(keys));
+}
+
+/**
+ Writes the string response for the selected enum to the given stream as UTF-8, with any bound keys
+ replaced. The text of the lang is encoded when it's registered, so only the replaced keys are
+ encoded.
+ @param out      The stream to write the response to.
+ @param bindings The values to replace the keys with.
+ @throws IOException          If the stream couldn't be written to.
+ @throws NullPointerException If any of the arguments are null.
+ @throws NotInitiatedException If a lang is retrieved before it is registered with
+ {@link
+ io.github.tye.easyconfigs.EasyConfigurations#registerReadOnlyLang(Class,
+     String) EasyConfigurations#registerReadOnlyLang(Class, String)} */
+@ExternalUse
+default void writeTo(@NotNull OutputStream out, @NotNull Bindings bindings) throws IOException, NotInitiatedException, NullPointerException {
+  NullCheck.notNull(out, "Output");
+  NullCheck.notNull(bindings, "Bindings");
+  InstanceRegistry.reading(this).getValues().getTemplate(this).writeTo(out, bindings);
+}
+
+/**
+ Writes the string response for the selected enum to the given buffer as UTF-8, with any matching
+ keys replaced. The text of the lang is encoded when it's registered, so only the replaced keys are
+ encoded. If the buffer doesn't have enough space for the whole response, then nothing is written.
+ @param out  The buffer to write the response to.
+ @param keys The keys to modify the response with.
+ @throws BufferOverflowException If the buffer doesn't have enough space remaining.
+ @throws ReadOnlyBufferException If the buffer is read only.
+ @throws NullPointerException    If any of the arguments are null.
+ @throws NotInitiatedException If a lang is retrieved before it is registered with
+ {@link
+ io.github.tye.easyconfigs.EasyConfigurations#registerReadOnlyLang(Class,
+     String) EasyConfigurations#registerReadOnlyLang(Class, String)} */
+@ExternalUse
+default void writeTo(@NotNull ByteBuffer out, @NotNull Keys... keys) throws BufferOverflowException, ReadOnlyBufferException, NotInitiatedException, NullPointerException {
+  NullCheck.notNull(out, "Output");
+  NullCheck.notNull(keys, "keys");
+  InstanceRegistry.reading(this).getValues().getTemplate(this).writeTo(out, Bindings.consume(keys));
 }
 
+/**
+ Writes the string response for the selected enum to the given buffer as UTF-8, with any bound keys
+ replaced. The text of the lang is encoded when it's registered, so only the replaced keys are
+ encoded. If the buffer doesn't have enough space for the whole response, then nothing is written.
+ @param out      The buffer to write the response to.
+ @param bindings The values to replace the keys with.
+ @throws BufferOverflowException If the buffer doesn't have enough space remaining.
+ @throws ReadOnlyBufferException If the buffer is read only.
+ @throws NullPointerException    If any of the arguments are null.
+ @throws NotInitiatedException If a lang is retrieved before it is registered with
+ {@link
+ io.github.tye.easyconfigs.EasyConfigurations#registerReadOnlyLang(Class,
+     String) EasyConfigurations#registerReadOnlyLang(Class, String)} */
+@ExternalUse
+default void writeTo(@NotNull ByteBuffer out, @NotNull Bindings bindings) throws BufferOverflowException, ReadOnlyBufferException, NotInitiatedException, NullPointerException {
+  NullCheck.notNull(out, "Output");
+  NullCheck.notNull(bindings, "Bindings");
+  InstanceRegistry.reading(this).getValues().getTemplate(this).writeTo(out, bindings);
+}
+}
@@ -245,4 +245,43 @@ public static @NotNull String notAnEnum(String className) {
 
   }
 }
+
+/**
+ @see Lang */
+@Contract(pure=true)
+@InternalUse
+public static @NotNull String notALangEnum(String className) {
+  switch (Config.getLanguage()) {
+
+  case ENGLISH: return "Class \"" + className + "\" does not implement a lang interface.";
+  default: return "";
+
+  }
+}
+
+/**
+ @see Lang */
+@Contract(pure=true)
+@InternalUse
+public static @NotNull String notPositive(String valueName, long value) {
+  switch (Config.getLanguage()) {
+
+  case ENGLISH: return "The " + valueName + " must be greater than 0, but was " + value + ".";
+  default: return "";
+
+  }
+}
+
+/**
+ @see Lang */
+@Contract(pure=true)
+@InternalUse
+public static @NotNull String failedLocaleLoad(String resourcePath, String locale) {
+  switch (Config.getLanguage()) {
+
+  case ENGLISH: return "The lang locale \"" + locale + "\" couldn't be loaded from \"" + resourcePath + "\". The lang values of its fallbacks will be used instead.";
+  default: return "";
+
+  }
+}
 }
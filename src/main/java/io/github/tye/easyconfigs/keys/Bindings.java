@@ -0,0 +1,410 @@
+package io.github.tye.easyconfigs.keys;
+
+import io.github.tye.easyconfigs.NullCheck;
+import io.github.tye.easyconfigs.annotations.ExternalUse;
+import io.github.tye.easyconfigs.annotations.InternalUse;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ An immutable set of values to replace keys with when rendering a lang response.
+ <p>
+ Unlike {@link Keys#replaceWith(String)}, bindings don't store the values in any shared state. So
+ the same lang can be rendered with different values on any amount of threads at the same time,
+ &amp; bindings can be kept &amp; reused for as long as needed.
+ <p>
+ Bindings are created with {@link Keys#with(String)} &amp; extended with
+ {@link #and(Keys, String)}. E.g. {@code lang.get(Keys.NAME.with("Bob").and(Keys.AGE, 3))}. Numbers
+ &amp; chars are stored without being boxed, &amp; are appended straight into the response. */
+@ExternalUse
+public final class Bindings {
+
+/**
+ The value is a {@link CharSequence}, stored in {@link #texts}. */
+@InternalUse
+static final byte TEXT = 0;
+
+/**
+ The value is an int or long, stored in {@link #numbers}. */
+@InternalUse
+static final byte INTEGER = 1;
+
+/**
+ The value is a float or double, stored in {@link #numbers} as its raw long bits. */
+@InternalUse
+static final byte DECIMAL = 2;
+
+/**
+ The value is a char, stored in {@link #numbers}. */
+@InternalUse
+static final byte CHARACTER = 3;
+
+/**
+ The names of the bound keys, without the key start &amp; end. These are resolved when the key is
+ bound, so rendering doesn't need to look up the keys. The name of a key that hasn't been initiated
+ is null. */
+@InternalUse
+private final @NotNull String[] names;
+
+/**
+ The type of each bound value, at the same index as their name. Values are stored in a column for
+ their type, so numbers are never boxed or converted to strings before they are rendered. */
+@InternalUse
+private final @NotNull byte[] types;
+
+/**
+ The {@link #TEXT} values the bound keys will be replaced with, at the same index as their name. The
+ values of other types are null. */
+@InternalUse
+private final @NotNull CharSequence[] texts;
+
+/**
+ The {@link #INTEGER}, {@link #DECIMAL} &amp; {@link #CHARACTER} values the bound keys will be
+ replaced with, at the same index as their name. */
+@InternalUse
+private final @NotNull long[] numbers;
+
+/**
+ Creates new bindings from the given names &amp; values.
+ @param names   The names of the bound keys.
+ @param types   The type of each bound value.
+ @param texts   The text values the bound keys will be replaced with.
+ @param numbers The other values the bound keys will be replaced with. */
+@InternalUse
+private Bindings(@NotNull String[] names, @NotNull byte[] types, @NotNull CharSequence[] texts, @NotNull long[] numbers) {
+  this.names = names;
+  this.types = types;
+  this.texts = texts;
+  this.numbers = numbers;
+}
+
+/**
+ Bindings that don't contain any keys. */
+@InternalUse
+private static final @NotNull Bindings EMPTY = new Bindings(new String[0], new byte[0], new CharSequence[0], new long[0]);
+
+
+/**
+ Binds the given key to the given value.
+ @param key   The key to replace.
+ @param value The value to replace the key with.
+ @return Bindings containing only the given key.
+ @throws NullPointerException If any of the arguments are null. */
+@Contract(pure=true)
+@ExternalUse
+public static @NotNull Bindings of(@NotNull Keys key, @NotNull String value) throws NullPointerException {
+  return of(key, (CharSequence) value);
+}
+
+/**
+ Binds the given key to the given value. The value is appended as it is when rendering, so it
+ shouldn't be modified while these bindings are in use.
+ @param key   The key to replace.
+ @param value The value to replace the key with.
+ @return Bindings containing only the given key.
+ @throws NullPointerException If any of the arguments are null. */
+@Contract(pure=true)
+@ExternalUse
+public static @NotNull Bindings of(@NotNull Keys key, @NotNull CharSequence value) throws NullPointerException {
+  NullCheck.notNull(key, "Key");
+  NullCheck.notNull(value, "Replacement string");
+  return EMPTY.bind(key, TEXT, value, 0);
+}
+
+/**
+ Binds the given key to the given value, without converting it to a string first.
+ @param key   The key to replace.
+ @param value The value to replace the key with.
+ @return Bindings containing only the given key.
+ @throws NullPointerException If the given key is null. */
+@Contract(pure=true)
+@ExternalUse
+public static @NotNull Bindings of(@NotNull Keys key, long value) throws NullPointerException {
+  NullCheck.notNull(key, "Key");
+  return EMPTY.bind(key, INTEGER, null, value);
+}
+
+/**
+ Binds the given key to the given value, without converting it to a string first.
+ @param key   The key to replace.
+ @param value The value to replace the key with.
+ @return Bindings containing only the given key.
+ @throws NullPointerException If the given key is null. */
+@Contract(pure=true)
+@ExternalUse
+public static @NotNull Bindings of(@NotNull Keys key, double value) throws NullPointerException {
+  NullCheck.notNull(key, "Key");
+  return EMPTY.bind(key, DECIMAL, null, Double.doubleToRawLongBits(value));
+}
+
+/**
+ Binds the given key to the given value, without converting it to a string first.
+ @param key   The key to replace.
+ @param value The value to replace the key with.
+ @return Bindings containing only the given key.
+ @throws NullPointerException If the given key is null. */
+@Contract(pure=true)
+@ExternalUse
+public static @NotNull Bindings of(@NotNull Keys key, char value) throws NullPointerException {
+  NullCheck.notNull(key, "Key");
+  return EMPTY.bind(key, CHARACTER, null, value);
+}
+
+/**
+ Creates a copy of these bindings with the given key bound to the given value. These bindings aren't
+ modified.
+ <p>
+ If the key is already bound, then the existing value is used when rendering.
+ @param key   The key to replace.
+ @param value The value to replace the key with.
+ @return A copy of these bindings, containing the given key.
+ @throws NullPointerException If any of the arguments are null. */
+@Contract(pure=true)
+@ExternalUse
+public @NotNull Bindings and(@NotNull Keys key, @NotNull String value) throws NullPointerException {
+  return and(key, (CharSequence) value);
+}
+
+/**
+ Creates a copy of these bindings with the given key bound to the given value. These bindings aren't
+ modified. The value is appended as it is when rendering, so it shouldn't be modified while these
+ bindings are in use.
+ @param key   The key to replace.
+ @param value The value to replace the key with.
+ @return A copy of these bindings, containing the given key.
+ @throws NullPointerException If any of the arguments are null. */
+@Contract(pure=true)
+@ExternalUse
+public @NotNull Bindings and(@NotNull Keys key, @NotNull CharSequence value) throws NullPointerException {
+  NullCheck.notNull(key, "Key");
+  NullCheck.notNull(value, "Replacement string");
+  return bind(key, TEXT, value, 0);
+}
+
+/**
+ Creates a copy of these bindings with the given key bound to the given value, without converting it
+ to a string first. These bindings aren't modified.
+ @param key   The key to replace.
+ @param value The value to replace the key with.
+ @return A copy of these bindings, containing the given key.
+ @throws NullPointerException If the given key is null. */
+@Contract(pure=true)
+@ExternalUse
+public @NotNull Bindings and(@NotNull Keys key, long value) throws NullPointerException {
+  NullCheck.notNull(key, "Key");
+  return bind(key, INTEGER, null, value);
+}
+
+/**
+ Creates a copy of these bindings with the given key bound to the given value, without converting it
+ to a string first. These bindings aren't modified.
+ @param key   The key to replace.
+ @param value The value to replace the key with.
+ @return A copy of these bindings, containing the given key.
+ @throws NullPointerException If the given key is null. */
+@Contract(pure=true)
+@ExternalUse
+public @NotNull Bindings and(@NotNull Keys key, double value) throws NullPointerException {
+  NullCheck.notNull(key, "Key");
+  return bind(key, DECIMAL, null, Double.doubleToRawLongBits(value));
+}
+
+/**
+ Creates a copy of these bindings with the given key bound to the given value, without converting it
+ to a string first. These bindings aren't modified.
+ @param key   The key to replace.
+ @param value The value to replace the key with.
+ @return A copy of these bindings, containing the given key.
+ @throws NullPointerException If the given key is null. */
+@Contract(pure=true)
+@ExternalUse
+public @NotNull Bindings and(@NotNull Keys key, char value) throws NullPointerException {
+  NullCheck.notNull(key, "Key");
+  return bind(key, CHARACTER, null, value);
+}
+
+/**
+ Creates a copy of these bindings with the given key bound to the given value.
+ @param key    The key to replace.
+ @param type   The type of the value.
+ @param text   The value if it's {@link #TEXT}. Otherwise, null.
+ @param number The value if it isn't {@link #TEXT}. Otherwise, 0.
+ @return A copy of these bindings, containing the given key. */
+@Contract(pure=true)
+@InternalUse
+private @NotNull Bindings bind(@NotNull Keys key, byte type, @Nullable CharSequence text, long number) {
+  int size = names.length;
+
+  String[] names = Arrays.copyOf(this.names, size + 1);
+  byte[] types = Arrays.copyOf(this.types, size + 1);
+  CharSequence[] texts = Arrays.copyOf(this.texts, size + 1);
+  long[] numbers = Arrays.copyOf(this.numbers, size + 1);
+  names[size] = nameOf(key);
+  types[size] = type;
+  texts[size] = text;
+  numbers[size] = number;
+
+  return new Bindings(names, types, texts, numbers);
+}
+
+
+/**
+ Binds every given key to the value it was set to with {@link Keys#replaceWith(String)}. The value of
+ every given key is reset, even if it's bound multiple times.
+ @param keys The keys to bind.
+ @return Bindings containing the given keys. */
+@InternalUse
+public static @NotNull Bindings consume(@NotNull Keys[] keys) {
+  String[] names = new String[keys.length];
+  CharSequence[] texts = new CharSequence[keys.length];
+
+  for (int i = 0; i < keys.length; i++) {
+    names[i] = nameOf(keys[i]);
+    texts[i] = keys[i].getReplaceWith();
+  }
+
+  // Every value is text, which has the type 0.
+  return new Bindings(names, new byte[keys.length], texts, new long[keys.length]);
+}
+
+/**
+ @return The amount of keys that are bound. */
+@Contract(pure=true)
+@InternalUse
+int size() {
+  return names.length;
+}
+
+/**
+ Gets the name of the bound key at the given index.
+ @param index The given index.
+ @return The name of the key, without the key start &amp; end, or null if the key hasn't been
+ initiated. */
+@Contract(pure=true)
+@InternalUse
+@Nullable String nameAt(int index) {
+  return names[index];
+}
+
+/**
+ Gets the value of the bound key at the given index as text. Values that aren't text are converted
+ to a string.
+ @param index The given index.
+ @return The value the key will be replaced with. */
+@Contract(pure=true)
+@InternalUse
+@NotNull CharSequence valueAt(int index) {
+  switch (types[index]) {
+  case INTEGER: return String.valueOf(numbers[index]);
+  case DECIMAL: return String.valueOf(Double.longBitsToDouble(numbers[index]));
+  case CHARACTER: return String.valueOf((char) numbers[index]);
+  default: return texts[index];
+  }
+}
+
+/**
+ Appends the value of the bound key at the given index to the given builder. Values that aren't text
+ are appended without being converted to a string.
+ @param out   The builder to append to.
+ @param index The given index. */
+@InternalUse
+void appendValue(@NotNull StringBuilder out, int index) {
+  append(out, types[index], texts[index], numbers[index]);
+}
+
+/**
+ Gets the maximum length the value of the bound key at the given index could be.
+ @param index The given index.
+ @return The maximum length of the value. */
+@Contract(pure=true)
+@InternalUse
+int lengthAt(int index) {
+  return length(types[index], texts[index]);
+}
+
+/**
+ Checks if every value is immutable, so the bindings can be used as a key in a cache.
+ @return True if every text value is a string. Otherwise, false. */
+@Contract(pure=true)
+@InternalUse
+boolean isImmutable() {
+  for (CharSequence text : texts) {
+    if (text != null && !(text instanceof String)) return false;
+  }
+  return true;
+}
+
+/**
+ Appends the given value to the given builder, without converting it to a string.
+ @param out    The builder to append to.
+ @param type   The type of the value.
+ @param text   The value if it's {@link #TEXT}.
+ @param number The value if it isn't {@link #TEXT}. */
+@InternalUse
+static void append(@NotNull StringBuilder out, byte type, @Nullable CharSequence text, long number) {
+  switch (type) {
+  case INTEGER: out.append(number); break;
+  case DECIMAL: out.append(Double.longBitsToDouble(number)); break;
+  case CHARACTER: out.append((char) number); break;
+  default: out.append(text);
+  }
+}
+
+/**
+ Gets the maximum length the given value could be once appended.
+ @param type The type of the value.
+ @param text The value if it's {@link #TEXT}.
+ @return The maximum length of the value. */
+@Contract(pure=true)
+@InternalUse
+static int length(byte type, @Nullable CharSequence text) {
+  switch (type) {
+  case INTEGER: return 20;
+  case DECIMAL: return 24;
+  case CHARACTER: return 1;
+  default: return text == null ? 0 : text.length();
+  }
+}
+
+/**
+ Gets the name of the given key.
+ @param key The given key.
+ @return The name of the key, without the key start &amp; end, or null if the key hasn't been
+ initiated. */
+@Contract(pure=true)
+@InternalUse
+static @Nullable String nameOf(@NotNull Keys key) {
+  return KeyHandler.toReplace.get(key);
+}
+
+
+/**
+ Bindings are equal if they bind the same keys to the same values, in the same order.
+ @param o The object to compare to.
+ @return True if the given object is equal bindings. Otherwise, false. */
+@Contract(pure=true)
+@ExternalUse
+@Override
+public boolean equals(@Nullable Object o) {
+  if (this == o) return true;
+  if (!(o instanceof Bindings)) return false;
+
+  Bindings other = (Bindings) o;
+  return Arrays.equals(names, other.names) && Arrays.equals(types, other.types) && Arrays.equals(texts, other.texts) && Arrays.equals(numbers, other.numbers);
+}
+
+/**
+ @see Object#hashCode() */
+@Contract(pure=true)
+@ExternalUse
+@Override
+public int hashCode() {
+  int hash = Arrays.hashCode(names);
+  hash = 31 * hash + Arrays.hashCode(types);
+  hash = 31 * hash + Arrays.hashCode(texts);
+  return 31 * hash + Arrays.hashCode(numbers);
+}
+}
@@ -32,6 +32,9 @@ default void init(@NotNull String toReplace) {
  Sets the string value that this key will replace to the given string.
  <p>
  If no value is set then it will default to an empty string.
+ <p>
+ The value is shared by every thread, so the same key mustn't be used on multiple threads at the same
+ time. Use {@link #with(String)} instead if lang is rendered on multiple threads.
  @param replaceWith The string to replace the key with.
  @return The modified key string.
  @throws NullPointerException If the given string was null */
@@ -42,6 +45,62 @@ default @NotNull Keys replaceWith(@NotNull String replaceWith) throws NullPointe
   return this;
 }
 
+/**
+ Binds this key to the given value, without modifying any shared state. More keys can be bound with
+ {@link Bindings#and(Keys, String)}.
+ @param value The string to replace the key with.
+ @return Bindings containing this key.
+ @throws NullPointerException If the given string was null */
+@Contract(pure=true)
+@ExternalUse
+default @NotNull Bindings with(@NotNull String value) throws NullPointerException {
+  return Bindings.of(this, value);
+}
+
+/**
+ Binds this key to the given value, without modifying any shared state. The value is appended as it
+ is when rendering, so it shouldn't be modified while the bindings are in use.
+ @param value The text to replace the key with.
+ @return Bindings containing this key.
+ @throws NullPointerException If the given text was null */
+@Contract(pure=true)
+@ExternalUse
+default @NotNull Bindings with(@NotNull CharSequence value) throws NullPointerException {
+  return Bindings.of(this, value);
+}
+
+/**
+ Binds this key to the given value, without modifying any shared state. The value isn't converted to
+ a string until it's appended into the response.
+ @param value The number to replace the key with.
+ @return Bindings containing this key. */
+@Contract(pure=true)
+@ExternalUse
+default @NotNull Bindings with(long value) {
+  return Bindings.of(this, value);
+}
+
+/**
+ Binds this key to the given value, without modifying any shared state. The value isn't converted to
+ a string until it's appended into the response.
+ @param value The number to replace the key with.
+ @return Bindings containing this key. */
+@Contract(pure=true)
+@ExternalUse
+default @NotNull Bindings with(double value) {
+  return Bindings.of(this, value);
+}
+
+/**
+ Binds this key to the given value, without modifying any shared state.
+ @param value The char to replace the key with.
+ @return Bindings containing this key. */
+@Contract(pure=true)
+@ExternalUse
+default @NotNull Bindings with(char value) {
+  return Bindings.of(this, value);
+}
+
 
 /**
  Gets the value that the key will replace.
@@ -0,0 +1,564 @@
+package io.github.tye.easyconfigs.keys;
+
+import io.github.tye.easyconfigs.annotations.InternalUse;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+
+/**
+ A lang value that has been split into its literal text &amp; the keys within it.
+ <p>
+ Lang values are split once when they are parsed, by a single scan for the key start &amp; end. Every
+ key within the value is stored along with where it appears, so rendering a lang response looks up
+ each given key once, regardless of how many keys are in the value or how many keys are given.
+ The split of a template is never modified after it's created, so templates can be safely rendered
+ from any thread. */
+@InternalUse
+public final class LangTemplate {
+
+/**
+ The unmodified lang value. */
+@InternalUse
+private final @NotNull String value;
+
+/**
+ The {@link KeyHandler#keyStart key start} the value was split with. */
+@InternalUse
+private final @NotNull String keyStart;
+
+/**
+ The {@link KeyHandler#keyEnd key end} the value was split with. */
+@InternalUse
+private final @NotNull String keyEnd;
+
+/**
+ The literal text of the value. The text before the first key is the first literal, the text
+ between the first &amp; second key is the second literal, and so on. So there is always one more
+ literal than there are keys. */
+@InternalUse
+private final @NotNull String[] literals;
+
+/**
+ The keys within the value, including the key start &amp; end, in the order they appear. These are
+ appended unchanged if a key isn't replaced. */
+@InternalUse
+private final @NotNull String[] tokens;
+
+/**
+ Contains where each key appears within the value, keyed by the name of the key without the key
+ start &amp; end. The positions are indexes into {@link #tokens}. */
+@InternalUse
+private final @NotNull HashMap<String, int[]> positions;
+
+/**
+ The combined length of every literal. */
+@InternalUse
+private final int literalLength;
+
+/**
+ The {@link #literals} encoded as UTF-8, so they don't need to be encoded when writing bytes. */
+@InternalUse
+private final @NotNull byte[][] encodedLiterals;
+
+/**
+ The {@link #tokens} encoded as UTF-8, so keys that aren't replaced don't need to be encoded when
+ writing bytes. */
+@InternalUse
+private final @NotNull byte[][] encodedTokens;
+
+/**
+ The combined length of every encoded literal. */
+@InternalUse
+private final int encodedLiteralLength;
+
+/**
+ The value split with the current key start &amp; end, if the key characters have been changed since
+ this template was split. This is null until it's first needed. */
+@InternalUse
+private volatile @Nullable LangTemplate resplit = null;
+
+
+/**
+ Splits the given lang value with the current key start &amp; end.
+ @param value The lang value to split. */
+@InternalUse
+public LangTemplate(@NotNull String value) {
+  this.value = value;
+  this.keyStart = KeyHandler.keyStart;
+  this.keyEnd = KeyHandler.keyEnd;
+
+  ArrayList<String> literals = new ArrayList<>();
+  ArrayList<String> tokens = new ArrayList<>();
+  HashMap<String, int[]> positions = new HashMap<>();
+
+  int literalStart = 0;
+  int searchFrom = 0;
+  while (true) {
+    int start = value.indexOf(keyStart, searchFrom);
+    if (start == -1) break;
+
+    int end = value.indexOf(keyEnd, start + keyStart.length());
+    if (end == -1) break;
+
+    // If a key start appears again before the key end, then the closest key start is used.
+    // E.g. "{a{b}" contains the key "b".
+    int closestStart = value.lastIndexOf(keyStart, end - keyStart.length());
+    if (closestStart > start) start = closestStart;
+
+    String name = value.substring(start + keyStart.length(), end);
+    int[] existing = positions.get(name);
+    int[] found = existing == null ? new int[1] : Arrays.copyOf(existing, existing.length + 1);
+    found[found.length - 1] = tokens.size();
+    positions.put(name, found);
+
+    literals.add(value.substring(literalStart, start));
+    tokens.add(value.substring(start, end + keyEnd.length()));
+
+    literalStart = end + keyEnd.length();
+    searchFrom = literalStart;
+  }
+  literals.add(value.substring(literalStart));
+
+  this.literals = literals.toArray(new String[0]);
+  this.tokens = tokens.toArray(new String[0]);
+  this.positions = positions;
+
+  int literalLength = 0;
+  for (String literal : this.literals) literalLength += literal.length();
+  this.literalLength = literalLength;
+
+  this.encodedLiterals = new byte[this.literals.length][];
+  int encodedLiteralLength = 0;
+  for (int i = 0; i < this.literals.length; i++) {
+    encodedLiterals[i] = this.literals[i].getBytes(StandardCharsets.UTF_8);
+    encodedLiteralLength += encodedLiterals[i].length;
+  }
+  this.encodedLiteralLength = encodedLiteralLength;
+
+  this.encodedTokens = new byte[this.tokens.length][];
+  for (int i = 0; i < this.tokens.length; i++) {
+    encodedTokens[i] = this.tokens[i].getBytes(StandardCharsets.UTF_8);
+  }
+}
+
+
+/**
+ @return The unmodified lang value. */
+@Contract(pure=true)
+@InternalUse
+public @NotNull String getValue() {
+  return value;
+}
+
+/**
+ Checks if this template was split with the current key start &amp; end. If the key characters
+ have been changed since, then the value needs to be split again.
+ @return True if this template was split with the current key start &amp; end. Otherwise, false. */
+@Contract(pure=true)
+@InternalUse
+public boolean isCurrent() {
+  return keyStart.equals(KeyHandler.keyStart) && keyEnd.equals(KeyHandler.keyEnd);
+}
+
+/**
+ Gets this template split with the current key start &amp; end. If the key characters have been
+ changed since this template was split, then the value is split again once &amp; the new template is
+ reused until the key characters change again.
+ @return This template, or the value split with the current key start &amp; end. */
+@InternalUse
+public @NotNull LangTemplate current() {
+  if (isCurrent()) return this;
+
+  // Multiple threads could split the value at the same time, but only one of the templates is kept.
+  LangTemplate resplit = this.resplit;
+  if (resplit == null || !resplit.isCurrent()) {
+    resplit = new LangTemplate(value);
+    this.resplit = resplit;
+  }
+  return resplit;
+}
+
+/**
+ Renders the lang value with every key within it replaced by the given key with the same name.
+ <p>
+ Keys within the value that don't match any given key are left unchanged. If multiple given keys
+ have the same name, then the first is used. Every given key has its replacement reset, even if it
+ isn't within the value.
+ @param keys The keys to modify the value with.
+ @return The modified value. */
+@InternalUse
+public @NotNull String render(@NotNull Keys[] keys) {
+  return render(Bindings.consume(keys));
+}
+
+/**
+ Renders the lang value with every key within it replaced by the value bound to the key with the
+ same name.
+ <p>
+ Keys within the value that aren't bound are left unchanged. No shared state is read or modified, so
+ this can be used from any thread at the same time.
+ @param bindings The values to replace the keys with.
+ @return The modified value. */
+@Contract(pure=true)
+@InternalUse
+public @NotNull String render(@NotNull Bindings bindings) {
+  if (tokens.length == 0) return value;
+
+  int[] bound = resolve(bindings);
+
+  // The response can only be shorter than this length, so the builder never needs to grow.
+  StringBuilder response = new StringBuilder(length(bound, bindings));
+  append(response, bound, bindings);
+  return response.toString();
+}
+
+/**
+ Renders the lang value with every key with the same name as the given key replaced by the given
+ value. The value is appended straight into the response, so it isn't converted to a string first.
+ @param key   The key to replace.
+ @param value The value to replace the key with.
+ @return The modified value. */
+@Contract(pure=true)
+@InternalUse
+public @NotNull String render(@NotNull Keys key, long value) {
+  return renderSingle(key, Bindings.INTEGER, null, value);
+}
+
+/**
+ Renders the lang value with every key with the same name as the given key replaced by the given
+ value. The value is appended straight into the response, so it isn't converted to a string first.
+ @param key   The key to replace.
+ @param value The value to replace the key with.
+ @return The modified value. */
+@Contract(pure=true)
+@InternalUse
+public @NotNull String render(@NotNull Keys key, double value) {
+  return renderSingle(key, Bindings.DECIMAL, null, Double.doubleToRawLongBits(value));
+}
+
+/**
+ Renders the lang value with every key with the same name as the given key replaced by the given
+ value.
+ @param key   The key to replace.
+ @param value The value to replace the key with.
+ @return The modified value. */
+@Contract(pure=true)
+@InternalUse
+public @NotNull String render(@NotNull Keys key, char value) {
+  return renderSingle(key, Bindings.CHARACTER, null, value);
+}
+
+/**
+ Renders the lang value with every key with the same name as the given key replaced by the given
+ value.
+ @param key   The key to replace.
+ @param value The value to replace the key with.
+ @return The modified value. */
+@Contract(pure=true)
+@InternalUse
+public @NotNull String render(@NotNull Keys key, @NotNull CharSequence value) {
+  return renderSingle(key, Bindings.TEXT, value, 0);
+}
+
+/**
+ Appends the lang value to the given builder, with every key within it replaced by the given key
+ with the same name. Every given key has its replacement reset.
+ @param out  The builder to append to.
+ @param keys The keys to modify the value with. */
+@InternalUse
+public void appendTo(@NotNull StringBuilder out, @NotNull Keys[] keys) {
+  appendTo(out, Bindings.consume(keys));
+}
+
+/**
+ Appends the lang value to the given output, with every key within it replaced by the given key
+ with the same name. Every given key has its replacement reset.
+ @param out  The output to append to.
+ @param keys The keys to modify the value with.
+ @throws IOException If the output couldn't be appended to. */
+@InternalUse
+public void appendTo(@NotNull Appendable out, @NotNull Keys[] keys) throws IOException {
+  appendTo(out, Bindings.consume(keys));
+}
+
+/**
+ Appends the lang value to the given builder, with every key within it replaced by the value bound
+ to the key with the same name. The builder is grown once to fit the whole value before appending.
+ @param out      The builder to append to.
+ @param bindings The values to replace the keys with. */
+@InternalUse
+public void appendTo(@NotNull StringBuilder out, @NotNull Bindings bindings) {
+  if (tokens.length == 0) {
+    out.append(value);
+    return;
+  }
+
+  int[] bound = resolve(bindings);
+
+  out.ensureCapacity(out.length() + length(bound, bindings));
+  append(out, bound, bindings);
+}
+
+/**
+ Appends the lang value to the given output, with every key within it replaced by the value bound
+ to the key with the same name. Each segment is appended directly, so no intermediate string is
+ created.
+ @param out      The output to append to.
+ @param bindings The values to replace the keys with.
+ @throws IOException If the output couldn't be appended to. */
+@InternalUse
+public void appendTo(@NotNull Appendable out, @NotNull Bindings bindings) throws IOException {
+  if (out instanceof StringBuilder) {
+    appendTo((StringBuilder) out, bindings);
+    return;
+  }
+
+  if (tokens.length == 0) {
+    out.append(value);
+    return;
+  }
+
+  int[] bound = resolve(bindings);
+
+  // Appendable can't append numbers, so any bound numbers are converted to strings.
+  for (int i = 0; i < bound.length; i++) {
+    out.append(literals[i]).append(bound[i] == -1 ? tokens[i] : bindings.valueAt(bound[i]));
+  }
+  out.append(literals[bound.length]);
+}
+
+/**
+ Appends the lang value to the given builder, with every key with the same name as the given key
+ replaced by the given value. The value is appended without being converted to a string first.
+ @param out   The builder to append to.
+ @param key   The key to replace.
+ @param value The value to replace the key with. */
+@InternalUse
+public void appendTo(@NotNull StringBuilder out, @NotNull Keys key, long value) {
+  appendSingle(out, key, Bindings.INTEGER, null, value);
+}
+
+/**
+ Appends the lang value to the given builder, with every key with the same name as the given key
+ replaced by the given value. The value is appended without being converted to a string first.
+ @param out   The builder to append to.
+ @param key   The key to replace.
+ @param value The value to replace the key with. */
+@InternalUse
+public void appendTo(@NotNull StringBuilder out, @NotNull Keys key, double value) {
+  appendSingle(out, key, Bindings.DECIMAL, null, Double.doubleToRawLongBits(value));
+}
+
+/**
+ Appends the lang value to the given builder, with every key with the same name as the given key
+ replaced by the given value.
+ @param out   The builder to append to.
+ @param key   The key to replace.
+ @param value The value to replace the key with. */
+@InternalUse
+public void appendTo(@NotNull StringBuilder out, @NotNull Keys key, char value) {
+  appendSingle(out, key, Bindings.CHARACTER, null, value);
+}
+
+/**
+ Appends the lang value to the given builder, with every key with the same name as the given key
+ replaced by the given value.
+ @param out   The builder to append to.
+ @param key   The key to replace.
+ @param value The value to replace the key with. */
+@InternalUse
+public void appendTo(@NotNull StringBuilder out, @NotNull Keys key, @NotNull CharSequence value) {
+  appendSingle(out, key, Bindings.TEXT, value, 0);
+}
+
+/**
+ Writes the lang value as UTF-8 to the given stream, with every key within it replaced by the value
+ bound to the key with the same name. The literal text is encoded when the value is split, so only
+ the replaced values are encoded.
+ @param out      The stream to write to.
+ @param bindings The values to replace the keys with.
+ @throws IOException If the stream couldn't be written to. */
+@InternalUse
+public void writeTo(@NotNull OutputStream out, @NotNull Bindings bindings) throws IOException {
+  byte[][] replacements = encode(resolve(bindings), bindings);
+
+  for (int i = 0; i < replacements.length; i++) {
+    out.write(encodedLiterals[i]);
+    out.write(replacements[i]);
+  }
+  out.write(encodedLiterals[replacements.length]);
+}
+
+/**
+ Writes the lang value as UTF-8 to the given buffer, with every key within it replaced by the value
+ bound to the key with the same name. The literal text is encoded when the value is split, so only
+ the replaced values are encoded.
+ <p>
+ If the buffer doesn't have enough space for the whole value, then nothing is written.
+ @param out      The buffer to write to.
+ @param bindings The values to replace the keys with.
+ @throws BufferOverflowException If the buffer doesn't have enough space remaining.
+ @throws ReadOnlyBufferException If the buffer is read only. */
+@InternalUse
+public void writeTo(@NotNull ByteBuffer out, @NotNull Bindings bindings) throws BufferOverflowException, ReadOnlyBufferException {
+  byte[][] replacements = encode(resolve(bindings), bindings);
+
+  int length = encodedLiteralLength;
+  for (byte[] replacement : replacements) length += replacement.length;
+  if (out.remaining() < length) throw new BufferOverflowException();
+
+  for (int i = 0; i < replacements.length; i++) {
+    out.put(encodedLiterals[i]);
+    out.put(replacements[i]);
+  }
+  out.put(encodedLiterals[replacements.length]);
+}
+
+
+/**
+ Gets which binding each key within the value will be replaced with.
+ @param bindings The values to replace the keys with.
+ @return The index of the binding to replace each key with, indexed the same as {@link #tokens}.
+ Keys that aren't bound are -1. */
+@Contract(pure=true)
+@InternalUse
+private @NotNull int[] resolve(@NotNull Bindings bindings) {
+  int[] bound = new int[tokens.length];
+  Arrays.fill(bound, -1);
+
+  // The bindings are applied in reverse, so the first binding of a key is the one that's kept.
+  for (int i = bindings.size() - 1; i >= 0; i--) {
+    int[] found = positions.get(bindings.nameAt(i));
+    if (found == null) continue;
+
+    for (int position : found) bound[position] = i;
+  }
+
+  return bound;
+}
+
+/**
+ Encodes the text that each key will be replaced with as UTF-8. Keys that aren't replaced use their
+ pre-encoded bytes.
+ @param bound    The index of the binding to replace each key with.
+ @param bindings The values to replace the keys with.
+ @return The encoded text to replace each key with. */
+@Contract(pure=true)
+@InternalUse
+private @NotNull byte[][] encode(@NotNull int[] bound, @NotNull Bindings bindings) {
+  byte[][] encoded = new byte[bound.length][];
+
+  for (int i = 0; i < bound.length; i++) {
+    encoded[i] = bound[i] == -1 ? encodedTokens[i] : bindings.valueAt(bound[i]).toString().getBytes(StandardCharsets.UTF_8);
+  }
+
+  return encoded;
+}
+
+/**
+ Gets the maximum length of the lang value once its keys are replaced. This is exact if every bound
+ value is text.
+ @param bound    The index of the binding to replace each key with.
+ @param bindings The values to replace the keys with.
+ @return The maximum length of the rendered value. */
+@Contract(pure=true)
+@InternalUse
+private int length(@NotNull int[] bound, @NotNull Bindings bindings) {
+  int length = literalLength;
+  for (int i = 0; i < bound.length; i++) {
+    length += bound[i] == -1 ? tokens[i].length() : bindings.lengthAt(bound[i]);
+  }
+  return length;
+}
+
+/**
+ Appends the literals of the value, with the bound values in place of each key, to the given
+ builder.
+ @param out      The builder to append to.
+ @param bound    The index of the binding to replace each key with.
+ @param bindings The values to replace the keys with. */
+@InternalUse
+private void append(@NotNull StringBuilder out, @NotNull int[] bound, @NotNull Bindings bindings) {
+  for (int i = 0; i < bound.length; i++) {
+    out.append(literals[i]);
+
+    if (bound[i] == -1) out.append(tokens[i]);
+    else bindings.appendValue(out, bound[i]);
+  }
+  out.append(literals[bound.length]);
+}
+
+/**
+ Renders the lang value with every key with the same name as the given key replaced by the given
+ value.
+ @param key    The key to replace.
+ @param type   The type of the value.
+ @param text   The value if it's text.
+ @param number The value if it isn't text.
+ @return The modified value. */
+@Contract(pure=true)
+@InternalUse
+private @NotNull String renderSingle(@NotNull Keys key, byte type, @Nullable CharSequence text, long number) {
+  if (tokens.length == 0) return value;
+
+  int[] found = positions.get(Bindings.nameOf(key));
+  if (found == null) return value;
+
+  StringBuilder response = new StringBuilder(value.length() + found.length * Bindings.length(type, text));
+  appendSingle(response, found, type, text, number);
+  return response.toString();
+}
+
+/**
+ Appends the lang value to the given builder, with every key with the same name as the given key
+ replaced by the given value.
+ @param out    The builder to append to.
+ @param key    The key to replace.
+ @param type   The type of the value.
+ @param text   The value if it's text.
+ @param number The value if it isn't text. */
+@InternalUse
+private void appendSingle(@NotNull StringBuilder out, @NotNull Keys key, byte type, @Nullable CharSequence text, long number) {
+  int[] found = tokens.length == 0 ? null : positions.get(Bindings.nameOf(key));
+  if (found == null) {
+    out.append(value);
+    return;
+  }
+
+  out.ensureCapacity(out.length() + value.length() + found.length * Bindings.length(type, text));
+  appendSingle(out, found, type, text, number);
+}
+
+/**
+ Appends the literals of the value, with the given value in place of the keys at the given
+ positions, to the given builder.
+ @param out    The builder to append to.
+ @param found  The positions of the keys to replace, in ascending order.
+ @param type   The type of the value.
+ @param text   The value if it's text.
+ @param number The value if it isn't text. */
+@InternalUse
+private void appendSingle(@NotNull StringBuilder out, @NotNull int[] found, byte type, @Nullable CharSequence text, long number) {
+  int next = 0;
+  for (int i = 0; i < tokens.length; i++) {
+    out.append(literals[i]);
+
+    if (next < found.length && found[next] == i) {
+      Bindings.append(out, type, text, number);
+      next++;
+    }
+    else out.append(tokens[i]);
+  }
+  out.append(literals[tokens.length]);
+}
+}
@@ -0,0 +1,187 @@
+package io.github.tye.easyconfigs.keys;
+
+import io.github.tye.easyconfigs.annotations.ExternalUse;
+import io.github.tye.easyconfigs.annotations.InternalUse;
+import io.github.tye.easyconfigs.instances.Instance;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ A size bounded cache of rendered lang responses, keyed by the lang &amp; the values its keys were
+ replaced with.
+ <p>
+ When the cache is full, the response that was used least recently is removed. Responses of a
+ persistent lang are removed when its value is replaced, &amp; responses rendered before the
+ {@link io.github.tye.easyconfigs.EasyConfigurations#setKeyCharacters(String, String) key characters}
+ were changed are never used.
+ <p>
+ Caches are enabled with
+ {@link io.github.tye.easyconfigs.EasyConfigurations#enableRenderCache(Class, int)}. */
+@ExternalUse
+public final class RenderCache {
+
+/**
+ The maximum amount of responses the cache can contain. */
+@InternalUse
+private final int maxSize;
+
+/**
+ Contains the cached responses, ordered from the least to most recently used. */
+@InternalUse
+private final @NotNull LinkedHashMap<CacheKey, CachedResponse> responses;
+
+/**
+ The amount of renders that used a cached response. */
+@InternalUse
+private long hits = 0;
+
+/**
+ The amount of renders that didn't use a cached response. */
+@InternalUse
+private long misses = 0;
+
+/**
+ Creates a new empty cache.
+ @param maxSize The maximum amount of responses the cache can contain. */
+@InternalUse
+public RenderCache(int maxSize) {
+  this.maxSize = maxSize;
+  this.responses = new LinkedHashMap<CacheKey, CachedResponse>(16, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<CacheKey, CachedResponse> eldest) {
+      return size() > RenderCache.this.maxSize;
+    }
+  };
+}
+
+
+/**
+ Identifies a lang rendered with specific bindings. */
+@InternalUse
+private static final class CacheKey {
+  private final @NotNull Instance instance;
+  private final @NotNull Bindings bindings;
+
+  private CacheKey(@NotNull Instance instance, @NotNull Bindings bindings) {
+    this.instance = instance;
+    this.bindings = bindings;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (!(o instanceof CacheKey)) return false;
+
+    CacheKey other = (CacheKey) o;
+    return instance == other.instance && bindings.equals(other.bindings);
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * System.identityHashCode(instance) + bindings.hashCode();
+  }
+}
+
+/**
+ A rendered response &amp; the template it was rendered from. */
+@InternalUse
+private static final class CachedResponse {
+  private final @NotNull LangTemplate template;
+  private final @NotNull String response;
+
+  private CachedResponse(@NotNull LangTemplate template, @NotNull String response) {
+    this.template = template;
+    this.response = response;
+  }
+}
+
+
+/**
+ Gets the cached response of the given lang rendered with the given bindings. If there is no cached
+ response, then the template is rendered &amp; the response is cached.
+ @param instance The lang being rendered.
+ @param template The current template of the lang.
+ @param bindings The values to replace the keys with.
+ @return The rendered response. */
+@InternalUse
+public @NotNull String render(@NotNull Instance instance, @NotNull LangTemplate template, @NotNull Bindings bindings) {
+  // Bindings containing mutable text could be modified after being cached, so they aren't cached.
+  if (!bindings.isImmutable()) return template.render(bindings);
+
+  CacheKey key = new CacheKey(instance, bindings);
+
+  synchronized (this) {
+    CachedResponse cached = responses.get(key);
+
+    // A different template means the value or the key characters have changed since it was cached.
+    if (cached != null && cached.template == template) {
+      hits++;
+      return cached.response;
+    }
+    misses++;
+  }
+
+  // Rendering is done without holding the lock, so other threads aren't blocked by it.
+  String response = template.render(bindings);
+
+  synchronized (this) {
+    responses.put(key, new CachedResponse(template, response));
+  }
+  return response;
+}
+
+/**
+ Removes every cached response of the given lang.
+ @param instance The given lang. */
+@InternalUse
+public synchronized void invalidate(@NotNull Instance instance) {
+  Iterator<CacheKey> keys = responses.keySet().iterator();
+  while (keys.hasNext()) {
+    if (keys.next().instance == instance) keys.remove();
+  }
+}
+
+/**
+ Removes every cached response. The hit &amp; miss counts aren't reset. */
+@ExternalUse
+public synchronized void clear() {
+  responses.clear();
+}
+
+
+/**
+ @return The amount of renders that used a cached response. */
+@Contract(pure=true)
+@ExternalUse
+public synchronized long getHits() {
+  return hits;
+}
+
+/**
+ @return The amount of renders that didn't use a cached response. */
+@Contract(pure=true)
+@ExternalUse
+public synchronized long getMisses() {
+  return misses;
+}
+
+/**
+ @return The amount of responses currently cached. */
+@Contract(pure=true)
+@ExternalUse
+public synchronized int size() {
+  return responses.size();
+}
+
+/**
+ @return The maximum amount of responses the cache can contain. */
+@Contract(pure=true)
+@ExternalUse
+public int getMaxSize() {
+  return maxSize;
+}
+}
@@ -0,0 +1,80 @@
+package io.github.tye.easyconfigs.lists;
+
+import io.github.tye.easyconfigs.annotations.ExternalUse;
+import io.github.tye.easyconfigs.annotations.InternalUse;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ A read only {@link java.util.List List} that is backed by an array, which is sized exactly to the
+ amount of values in the list.
+ <p>
+ As the list can't be modified, it can be shared without copying it. Any method that would modify
+ the list throws an {@link UnsupportedOperationException}.
+ @param <E> The class of the values in the list. */
+@ExternalUse
+public abstract class ArrayBackedList<E> extends AbstractList<E> implements RandomAccess {
+
+/**
+ The amount of values in this list. */
+@InternalUse
+private final int size;
+
+/**
+ Creates a list of the given size. Only lists within this package can be created.
+ @param size The length of the array backing the list. */
+@InternalUse
+ArrayBackedList(int size) {
+  this.size = size;
+}
+
+/**
+ Checks that the given index is within this list.
+ @param index The given index.
+ @throws IndexOutOfBoundsException If the index is out of range. */
+@Contract(pure=true)
+@InternalUse
+protected final void checkIndex(int index) throws IndexOutOfBoundsException {
+  if (index < 0 || index >= size) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+}
+
+/**
+ Gets the value at the given index, boxing it if it's stored unboxed.
+ <p>
+ The index isn't checked to be within this list. It should be checked with {@link #checkIndex(int)}
+ first.
+ @param index The index of the value.
+ @return The value at the given index. */
+@Contract(pure=true)
+@InternalUse
+protected abstract @NotNull E valueAt(int index);
+
+@Override
+public final @NotNull E get(int index) {
+  checkIndex(index);
+  return valueAt(index);
+}
+
+@Override
+public final int size() {
+  return size;
+}
+
+@Override
+public final E set(int index, E element) {
+  throw new UnsupportedOperationException();
+}
+
+@Override
+public final void add(int index, E element) {
+  throw new UnsupportedOperationException();
+}
+
+@Override
+public final E remove(int index) {
+  throw new UnsupportedOperationException();
+}
+}
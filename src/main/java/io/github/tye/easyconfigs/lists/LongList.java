@@ -0,0 +1,56 @@
+package io.github.tye.easyconfigs.lists;
+
+import io.github.tye.easyconfigs.annotations.ExternalUse;
+import io.github.tye.easyconfigs.annotations.InternalUse;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ A read only {@link java.util.List List} of {@link Long} values that is backed by a long array.
+ <p>
+ The values are stored unboxed, so they can be retrieved with {@link #getLong(int)} without
+ any boxing. */
+@ExternalUse
+public final class LongList extends ArrayBackedList<Long> {
+
+/**
+ Contains the values of this list. */
+@InternalUse
+private final @NotNull long[] values;
+
+/**
+ Creates a list backed by the given array. The array <b>must not</b> be modified after it has been
+ given to this list.
+ @param values The values of the list. */
+@InternalUse
+public LongList(@NotNull long[] values) {
+  super(values.length);
+  this.values = values;
+}
+
+/**
+ Gets the value at the given index without boxing it.
+ @param index The index of the value.
+ @return The value at the given index.
+ @throws IndexOutOfBoundsException If the index is out of range. */
+@Contract(pure=true)
+@ExternalUse
+public long getLong(int index) throws IndexOutOfBoundsException {
+  checkIndex(index);
+  return values[index];
+}
+
+/**
+ Copies the values of this list into a new array.
+ @return A new array containing the values of this list. */
+@Contract(pure=true)
+@ExternalUse
+public @NotNull long[] toLongArray() {
+  return values.clone();
+}
+
+@Override
+protected @NotNull Long valueAt(int index) {
+  return values[index];
+}
+}
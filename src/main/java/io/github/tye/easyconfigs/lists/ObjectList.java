@@ -0,0 +1,34 @@
+package io.github.tye.easyconfigs.lists;
+
+import io.github.tye.easyconfigs.annotations.ExternalUse;
+import io.github.tye.easyconfigs.annotations.InternalUse;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ A read only {@link java.util.List List} of objects that is backed by an object array.
+ @param <E> The class of the values in the list. */
+@ExternalUse
+public final class ObjectList<E> extends ArrayBackedList<E> {
+
+/**
+ Contains the values of this list. */
+@InternalUse
+private final @NotNull Object[] values;
+
+/**
+ Creates a list backed by the given array. The array <b>must not</b> be modified after it has been
+ given to this list.
+ @param values The values of the list. The values must all be of the class of the list. */
+@InternalUse
+public ObjectList(@NotNull Object[] values) {
+  super(values.length);
+  this.values = values;
+}
+
+@SuppressWarnings("unchecked")
+// The values are given as the class of the list.
+@Override
+protected @NotNull E valueAt(int index) {
+  return (E) values[index];
+}
+}
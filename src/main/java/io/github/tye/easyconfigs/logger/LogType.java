@@ -34,7 +34,12 @@ public enum LogType {
   /**
    This log is output when a value is replaced within a persistent yaml &amp; the updated value is
    unable to be written to the external file. */
-  FAILED_EXTERNAL_UPDATE(Level.WARNING);
+  FAILED_EXTERNAL_UPDATE(Level.WARNING),
+
+  /**
+   This log is output when a lazily registered lang locale can't be loaded, so the values of its
+   fallbacks are used instead. */
+  FAILED_LOCALE_LOAD(Level.SEVERE);
 
 /**
  The severity of the log message. */
@@ -7,6 +7,7 @@ import io.github.tye.easyconfigs.annotations.InternalUse;
 import io.github.tye.easyconfigs.exceptions.ConfigurationException;
 import io.github.tye.easyconfigs.instances.Instance;
 import io.github.tye.easyconfigs.internalConfigs.Lang;
+import io.github.tye.easyconfigs.keys.LangTemplate;
 import io.github.tye.easyconfigs.logger.LogType;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -24,6 +25,8 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.StringWriter;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 import static io.github.tye.easyconfigs.logger.EasyConfigurationsDefaultLogger.logger;
 
@@ -72,20 +75,52 @@ protected @NotNull HashMap<String, Value<?>> yamlMap;
 
 /**
  Small wrapper class to hold the index route to the value in the {@link #parsedYaml} &amp; once
- computed, the value instantiated as the correct class.
+ computed, the value instantiated as the correct class along with the {@link SupportedClasses} it was
+ parsed as.
  @param <T> The class of the parsed value. */
 @InternalUse
 protected static class Value<T> {
   public @NotNull List<Integer> yamlIndexPath;
   public @NotNull T parsedValue;
+  public @Nullable SupportedClasses kind;
 
   public Value(@NotNull List<Integer> yamlIndexPath, @NotNull T parsedValue) {
+    this(yamlIndexPath, parsedValue, null);
+  }
+
+  public Value(@NotNull List<Integer> yamlIndexPath, @NotNull T parsedValue, @Nullable SupportedClasses kind) {
     this.yamlIndexPath = yamlIndexPath;
     this.parsedValue = parsedValue;
+    this.kind = kind;
   }
 }
 
 
+/**
+ Creates a yaml representation from the given already parsed yaml data.
+ <p>
+ Neither the given node nor the given map are copied, so they must not be modified after they are
+ given to this constructor.
+ @param parsedYaml The parsed yaml with comments.
+ @param yamlMap    The processed values of the given parsed yaml. */
+@InternalUse
+protected ReadYaml(@NotNull MappingNode parsedYaml, @NotNull HashMap<String, Value<?>> yamlMap) {
+  this.parsedYaml = parsedYaml;
+  this.yamlMap = yamlMap;
+}
+
+/**
+ Creates a yaml representation from the given already processed yaml values, without any parsed yaml
+ data. The {@link #parsedYaml} is empty, so {@link #getYaml()} returns an empty yaml.
+ <p>
+ The given map isn't copied, so it must not be modified after it's given to this constructor.
+ @param yamlMap The processed values of the yaml. */
+@InternalUse
+protected ReadYaml(@NotNull HashMap<String, Value<?>> yamlMap) {
+  this(new MappingNode(Tag.MAP, new ArrayList<>(), DumperOptions.FlowStyle.BLOCK), yamlMap);
+}
+
+
 /**
  Tests if a file is a valid yaml file.
  @param yamlInputStream An inputStream containing the data of the yaml file.
@@ -253,6 +288,18 @@ public @Nullable Object getValue(@NotNull String key) {
   return yamlMap.get(key).parsedValue;
 }
 
+/**
+ Gets the {@link SupportedClasses} that the value at the given key was parsed as.
+ @param key The given key to get the kind of.
+ @return The kind of the value at the given key. If the key isn't in the parsed yaml, or the value
+ hasn't been parsed yet, then null is returned. */
+@InternalUse
+public @Nullable SupportedClasses getKind(@NotNull String key) {
+  Value<?> value = yamlMap.get(key);
+  if (value == null) return null;
+  return value.kind;
+}
+
 /**
  Returns a Set view of the keys contained in this yaml. The set is backed by the yaml, so changes to
  the map are reflected in the set, and vice-versa. If the yaml is modified while an iteration over
@@ -449,51 +496,202 @@ public void warnUnusedKeys(@NotNull Class<? extends Instance> clazz, @NotNull St
 @InternalUse
 public void parseValues(@NotNull Class<? extends Instance> yamlEnum, @NotNull String resourcePath) throws ConfigurationException {
   Instance[] enums = yamlEnum.getEnumConstants();
+  Object[] parsedValues = decodeAll(enums, instanceEnum -> parseValue(instanceEnum, resourcePath));
 
-  for (Instance instanceEnum : enums) {
+  for (int i = 0; i < enums.length; i++) {
+    String keyPath = enums[i].getYamlPath();
+    SupportedClasses enumRepresentation = SupportedClasses.getAsEnum(enums[i].getAssingedClass());
 
-    // Checks if the value exists in the default file.
-    String keyPath = instanceEnum.getYamlPath();
-    if (!yamlMap.containsKey(keyPath)) {
-      throw new ConfigurationException(Lang.notInDefaultYaml(keyPath, resourcePath));
-    }
+    // Replaces the value in the Hashmap with the value as the correct class.
+    List<Integer> yamlIndexPath = yamlMap.get(keyPath).yamlIndexPath;
+    yamlMap.put(keyPath, new Value<>(yamlIndexPath, parsedValues[i], enumRepresentation));
+  }
+}
 
-    Class<?> assingedClass = instanceEnum.getAssingedClass();
+/**
+ Parses the value of the given instance within the yaml to the class specified by the instance. The
+ yaml isn't modified, so this can be called from multiple threads at the same time.
+ @param instanceEnum The instance to parse the value of.
+ @param resourcePath The path to the parsed file. (only used for logging purposes)
+ @return The parsed value.
+ @throws ConfigurationException If the value can't be parsed. See
+ {@link #parseValues(Class, String)}. */
+@InternalUse
+private @NotNull Object parseValue(@NotNull Instance instanceEnum, @NotNull String resourcePath) throws ConfigurationException {
+  // Checks if the value exists in the default file.
+  String keyPath = instanceEnum.getYamlPath();
+  if (!yamlMap.containsKey(keyPath)) {
+    throw new ConfigurationException(Lang.notInDefaultYaml(keyPath, resourcePath));
+  }
 
-    // Checks if the class is one supported by EasyConfigurations.
-    if (!SupportedClasses.existsAsEnum(assingedClass)) {
-      String className = Classes.getName(assingedClass);
-      throw new ConfigurationException(Lang.classNotSupported(className));
-    }
+  Class<?> assingedClass = instanceEnum.getAssingedClass();
 
-    SupportedClasses enumRepresentation = SupportedClasses.getAsEnum(assingedClass);
-    Object rawValue = yamlMap.get(keyPath).parsedValue;
+  // Checks if the class is one supported by EasyConfigurations.
+  if (!SupportedClasses.existsAsEnum(assingedClass)) {
+    String className = Classes.getName(assingedClass);
+    throw new ConfigurationException(Lang.classNotSupported(className));
+  }
 
-    // Checks if the value can be parsed as its intended class.
-    boolean canParse;
-    if (enumRepresentation == SupportedClasses.CONFIG_OBJECT || enumRepresentation == SupportedClasses.CONFIG_OBJECT_LIST) {
-      canParse = enumRepresentation.canParseCustom(assingedClass, rawValue);
-    }
-    else {
-      canParse = enumRepresentation.canParse(rawValue);
+  SupportedClasses enumRepresentation = SupportedClasses.getAsEnum(assingedClass);
+  Object rawValue = yamlMap.get(keyPath).parsedValue;
+
+  // Parses the value as its intended class, which is null if it can't be parsed.
+  Object parsedValue;
+  if (enumRepresentation == SupportedClasses.CONFIG_OBJECT || enumRepresentation == SupportedClasses.CONFIG_OBJECT_LIST) {
+    parsedValue = enumRepresentation.tryParseCustom(assingedClass, rawValue);
+  }
+  else {
+    parsedValue = enumRepresentation.tryParse(rawValue);
+  }
+  // If it can't throw an exception
+  if (parsedValue == null) {
+    throw new ConfigurationException(Lang.notAssignedClass(keyPath, resourcePath, rawValue.getClass(), assingedClass.getName()));
+  }
+
+  return parsedValue;
+}
+
+
+/**
+ The pool that the values of large enums are parsed on in parallel. If this is null, then every
+ value is parsed on the registering thread. */
+@InternalUse
+private static volatile @Nullable ForkJoinPool parsingPool = null;
+
+/**
+ Sets the pool that the values of large enums are parsed on in parallel.
+ @param pool The pool to parse values on, or null to parse every value on the registering thread. */
+@InternalUse
+public static void setParsingPool(@Nullable ForkJoinPool pool) {
+  parsingPool = pool;
+}
+
+/**
+ Enums with fewer instances than this are always parsed on the registering thread, as splitting them
+ across the pool would take longer than parsing them. */
+@InternalUse
+private static final int PARALLEL_THRESHOLD = 16;
+
+/**
+ Parses the value of a single instance.
+ @see #decodeAll(Instance[], Decoder) */
+@InternalUse
+@FunctionalInterface
+protected interface Decoder {
+  @Nullable Object decode(@NotNull Instance instance) throws ConfigurationException;
+}
+
+/**
+ Parses the value of every given instance with the given decoder. If a {@link #parsingPool} is set
+ &amp; there are enough instances, then the instances are split across the pool &amp; parsed in
+ parallel.
+ <p>
+ The result is the same whether the values are parsed in parallel or not. If multiple instances
+ can't be parsed, the exception of the first one in the order of the enum is thrown, including any
+ runtime exception thrown while parsing a custom object.
+ @param enums   The instances to parse the values of.
+ @param decoder Parses the value of a single instance. This must be safe to call from multiple
+                threads at the same time.
+ @return The parsed values, at the same index as their instance.
+ @throws ConfigurationException If the decoder failed for any of the instances. */
+@InternalUse
+protected static @NotNull Object[] decodeAll(@NotNull Instance[] enums, @NotNull Decoder decoder) throws ConfigurationException {
+  Object[] decoded = new Object[enums.length];
+
+  ForkJoinPool pool = parsingPool;
+  if (pool == null || enums.length < PARALLEL_THRESHOLD) {
+    for (int i = 0; i < enums.length; i++) {
+      decoded[i] = decoder.decode(enums[i]);
     }
-    // If it can't throw an exception
-    if (!canParse) {
-      throw new ConfigurationException(Lang.notAssignedClass(keyPath, resourcePath, rawValue.getClass(), assingedClass.getName()));
+    return decoded;
+  }
+
+  // The ranges are split until every thread in the pool has a few ranges, so uneven values balance out.
+  Exception[] errors = new Exception[enums.length];
+  int granularity = Math.max(1, enums.length / (pool.getParallelism() * 4));
+  pool.invoke(new DecodeTask(enums, decoder, decoded, errors, 0, enums.length, granularity));
+
+  for (Exception error : errors) {
+    if (error instanceof ConfigurationException) throw (ConfigurationException) error;
+    if (error != null) throw (RuntimeException) error;
+  }
+  return decoded;
+}
+
+/**
+ Parses the values of a range of instances, splitting the range in half until it's small enough. */
+@InternalUse
+private static final class DecodeTask extends RecursiveAction {
+  private static final long serialVersionUID = 1L;
+
+  private final @NotNull Instance[] enums;
+  private final @NotNull Decoder decoder;
+  private final @NotNull Object[] decoded;
+  private final @NotNull Exception[] errors;
+  private final int from;
+  private final int to;
+  private final int granularity;
+
+  private DecodeTask(@NotNull Instance[] enums, @NotNull Decoder decoder, @NotNull Object[] decoded, @NotNull Exception[] errors, int from, int to, int granularity) {
+    this.enums = enums;
+    this.decoder = decoder;
+    this.decoded = decoded;
+    this.errors = errors;
+    this.from = from;
+    this.to = to;
+    this.granularity = granularity;
+  }
+
+  @Override
+  protected void compute() {
+    if (to - from > granularity) {
+      int middle = (from + to) >>> 1;
+      invokeAll(new DecodeTask(enums, decoder, decoded, errors, from, middle, granularity),
+                new DecodeTask(enums, decoder, decoded, errors, middle, to, granularity));
+      return;
     }
 
-    // Parses the value as it's intended class.
-    Object parsedValue;
-    if (enumRepresentation == SupportedClasses.CONFIG_OBJECT || enumRepresentation == SupportedClasses.CONFIG_OBJECT_LIST) {
-      parsedValue = enumRepresentation.parseCustom(assingedClass, rawValue);
+    // Errors are stored rather than thrown, so the first error in the enum can be chosen afterwards.
+    for (int i = from; i < to; i++) {
+      try {
+        decoded[i] = decoder.decode(enums[i]);
+      }
+      // Runtime exceptions are stored too, as they can be thrown by the parsing of custom objects.
+      catch (ConfigurationException | RuntimeException e) {
+        errors[i] = e;
+      }
     }
-    else {
-      parsedValue = enumRepresentation.parse(rawValue);
+  }
+}
+
+/**
+ Parses the lang values within the yaml for a locale of the given lang enum. Unlike
+ {@link #parseValues(Class, String)}, the yaml doesn't need to contain every value of the enum, as
+ the missing values are taken from another locale.
+ @param langEnum     The lang enum that corresponds to the parsed yaml.
+ @param resourcePath The path to the parsed file. (only used for logging purposes)
+ @return The parsed values, indexed by the ordinal of their lang. Values that aren't in the yaml are
+ null.
+ @throws ConfigurationException If a value in the yaml can't be parsed as a string. */
+@InternalUse
+public @NotNull LangTemplate[] parseLocaleValues(@NotNull Class<? extends Instance> langEnum, @NotNull String resourcePath) throws ConfigurationException {
+  Instance[] enums = langEnum.getEnumConstants();
+  LangTemplate[] templates = new LangTemplate[enums.length];
+
+  for (Instance instanceEnum : enums) {
+    String keyPath = instanceEnum.getYamlPath();
+    Value<?> value = yamlMap.get(keyPath);
+    if (value == null) continue;
+
+    Object rawValue = value.parsedValue;
+    Object parsedValue = SupportedClasses.STRING.tryParse(rawValue);
+    if (parsedValue == null) {
+      throw new ConfigurationException(Lang.notAssignedClass(keyPath, resourcePath, rawValue.getClass(), String.class.getName()));
     }
 
-    // Replaces the value in the Hashmap with the value as the correct class.
-    List<Integer> yamlIndexPath = yamlMap.get(keyPath).yamlIndexPath;
-    yamlMap.put(keyPath, new Value<>(yamlIndexPath, parsedValue));
+    templates[instanceEnum.ordinal()] = new LangTemplate(parsedValue.toString());
   }
+
+  return templates;
 }
 }
@@ -0,0 +1,320 @@
+package io.github.tye.easyconfigs.yamls;
+
+import io.github.tye.easyconfigs.annotations.InternalUse;
+import io.github.tye.easyconfigs.exceptions.ConfigurationException;
+import io.github.tye.easyconfigs.internalConfigs.Lang;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.events.*;
+import org.yaml.snakeyaml.nodes.NodeId;
+import org.yaml.snakeyaml.nodes.Tag;
+import org.yaml.snakeyaml.parser.Parser;
+import org.yaml.snakeyaml.parser.ParserImpl;
+import org.yaml.snakeyaml.reader.StreamReader;
+import org.yaml.snakeyaml.resolver.Resolver;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.*;
+
+/**
+ This class is for reading values from <a href="https://yaml.org/">yaml</a> data that is never
+ written back.
+ <p>
+ Unlike {@link ReadYaml#ReadYaml(InputStream)}, the yaml is read straight from the parse events of
+ the yaml, so the node tree of the yaml is never created or kept. The values are the same as the ones
+ read by {@link ReadYaml}, but {@link #getYaml()} returns an empty yaml, as the comments &amp;
+ formatting of the yaml aren't kept. */
+@InternalUse
+public class StreamedYaml extends ReadYaml {
+
+/**
+ Resolves the tags of plain scalars, the same way as when the yaml is composed into nodes. */
+@InternalUse
+private static final @NotNull Resolver resolver = new Resolver();
+
+/**
+ The index path of every value. There are no nodes to index into, so the path is always empty. */
+@InternalUse
+private static final @NotNull List<Integer> noIndexPath = Collections.emptyList();
+
+
+/**
+ Creates an immutable yaml representation of the given yamlInputStream.
+ @param yamlInputStream The input stream containing the data of the yaml.
+ @throws IOException            If there was an error reading the input stream.
+ @throws ConfigurationException If there was an error parsing the given inputStream as a yaml, or if
+ the yaml contains any null values. */
+@InternalUse
+public StreamedYaml(@NotNull InputStream yamlInputStream) throws IOException, ConfigurationException {
+  // The map is filled before it's given to the super constructor, as it mustn't be modified after.
+  super(read(yamlInputStream));
+}
+
+/**
+ Reads the values of the given yamlInputStream from its parse events.
+ @param yamlInputStream The input stream containing the data of the yaml.
+ @return The values of the yaml.
+ @throws IOException            If there was an error reading the input stream.
+ @throws ConfigurationException If there was an error parsing the given inputStream as a yaml, or if
+ the yaml contains any null values. */
+@SuppressWarnings("ConstantValue")
+// Safeguards against if a null value was somehow given.
+@InternalUse
+private static @NotNull HashMap<String, Value<?>> read(@NotNull InputStream yamlInputStream) throws IOException, ConfigurationException {
+  if (yamlInputStream == null) throw new IOException(Lang.notNull("yamlInputStream"));
+
+  HashMap<String, Value<?>> yamlMap = new HashMap<>();
+  try {
+    LoaderOptions loaderOptions = new LoaderOptions();
+    Parser parser = new ParserImpl(new StreamReader(new InputStreamReader(yamlInputStream)), loaderOptions);
+    new EventReader(parser, loaderOptions, yamlMap).readStream();
+  }
+  catch (RuntimeException e) {
+    // If there was an error / runtime error parsing the yaml data then format it into an exception.
+    throw new ConfigurationException(Lang.errorWhileParsingYaml(), e.getCause());
+  }
+
+  return yamlMap;
+}
+
+
+/**
+ Reads the values of a yaml from its parse events into a map. */
+@InternalUse
+private static final class EventReader {
+  private final @NotNull Parser parser;
+  private final @NotNull HashMap<String, Value<?>> yamlMap;
+
+  /**
+   The amount of aliases to sequences &amp; mappings that can be read, the same as when the yaml is
+   composed into nodes. */
+  private final int maxCollectionAliases;
+
+  /**
+   The amount of aliases to sequences &amp; mappings that have been read. */
+  private int collectionAliases = 0;
+
+  /**
+   The values of anchored scalars &amp; sequences, or the key prefix of anchored mappings, by their
+   anchor. */
+  private final @NotNull HashMap<String, Object> anchors = new HashMap<>();
+
+  /**
+   The anchors of scalars that are null. */
+  private final @NotNull HashSet<String> nullAnchors = new HashSet<>();
+
+  /**
+   The key prefix that an anchored mapping was read with. */
+  private static final class MappingAnchor {
+    private final @NotNull String prefix;
+
+    private MappingAnchor(@NotNull String prefix) {
+      this.prefix = prefix;
+    }
+  }
+
+  private EventReader(@NotNull Parser parser, @NotNull LoaderOptions loaderOptions, @NotNull HashMap<String, Value<?>> yamlMap) {
+    this.parser = parser;
+    this.maxCollectionAliases = loaderOptions.getMaxAliasesForCollections();
+    this.yamlMap = yamlMap;
+  }
+
+  /**
+   Reads the stream of the yaml. The stream must contain a single document with a mapping at its
+   root.
+   @throws ConfigurationException If the yaml isn't a single mapping, or contains any null values. */
+  private void readStream() throws ConfigurationException {
+    expect(Event.ID.StreamStart);
+
+    // Snake yaml returns null on an empty yaml, which is counted as an error.
+    if (!parser.checkEvent(Event.ID.DocumentStart)) throw new ConfigurationException(Lang.errorWhileParsingYaml());
+    parser.getEvent();
+
+    Event root = parser.getEvent();
+    if (!(root instanceof MappingStartEvent)) throw new ConfigurationException(Lang.errorWhileParsingYaml());
+    readMapping("");
+
+    expect(Event.ID.DocumentEnd);
+    // Only a single document is allowed.
+    expect(Event.ID.StreamEnd);
+  }
+
+  /**
+   Reads the entries of a mapping, after its start event.
+   @param prefix The key path that leads to the mapping, including the trailing ".".
+   @throws ConfigurationException If the mapping contains any null values, or invalid keys. */
+  private void readMapping(@NotNull String prefix) throws ConfigurationException {
+    while (!parser.checkEvent(Event.ID.MappingEnd)) {
+      String key = prefix + readKey(parser.getEvent());
+      readValue(key, parser.getEvent());
+    }
+    parser.getEvent();
+  }
+
+  /**
+   Gets the key from the given event.
+   @param event The key event of a mapping entry.
+   @return The key.
+   @throws ConfigurationException If the key isn't a scalar. */
+  private @NotNull String readKey(@NotNull Event event) throws ConfigurationException {
+    if (event instanceof ScalarEvent) {
+      ScalarEvent scalar = (ScalarEvent) event;
+      record(scalar.getAnchor(), scalar.getValue(), isNull(scalar));
+      return scalar.getValue();
+    }
+
+    if (event instanceof AliasEvent) {
+      Object anchored = anchors.get(((AliasEvent) event).getAnchor());
+      if (anchored instanceof String) return (String) anchored;
+    }
+
+    throw new ConfigurationException(Lang.errorWhileParsingYaml());
+  }
+
+  /**
+   Reads the value of a mapping entry.
+   @param key   The key path that leads to the value.
+   @param event The first event of the value.
+   @throws ConfigurationException If the value is null, or an unknown alias. */
+  private void readValue(@NotNull String key, @NotNull Event event) throws ConfigurationException {
+    if (event instanceof ScalarEvent) {
+      ScalarEvent scalar = (ScalarEvent) event;
+      if (isNull(scalar)) throw new ConfigurationException(Lang.nullInYaml(key));
+
+      record(scalar.getAnchor(), scalar.getValue(), false);
+      yamlMap.put(key, new Value<>(noIndexPath, scalar.getValue()));
+      return;
+    }
+
+    if (event instanceof SequenceStartEvent) {
+      ArrayList<String> values = readSequence();
+
+      record(((SequenceStartEvent) event).getAnchor(), values, false);
+      yamlMap.put(key, new Value<>(noIndexPath, values));
+      return;
+    }
+
+    if (event instanceof MappingStartEvent) {
+      // The anchor is recorded after the mapping, so a mapping can't contain an alias to itself.
+      readMapping(key + ".");
+      record(((MappingStartEvent) event).getAnchor(), new MappingAnchor(key + "."), false);
+      return;
+    }
+
+    String anchor = ((AliasEvent) event).getAnchor();
+    if (nullAnchors.contains(anchor)) throw new ConfigurationException(Lang.nullInYaml(key));
+
+    Object anchored = anchors.get(anchor);
+    if (anchored == null) throw new ConfigurationException(Lang.errorWhileParsingYaml());
+    if (!(anchored instanceof String)) countCollectionAlias();
+
+    if (anchored instanceof MappingAnchor) {
+      copyMapping(((MappingAnchor) anchored).prefix, key + ".");
+      return;
+    }
+
+    // Anchored values are never modified, so they can be shared.
+    yamlMap.put(key, new Value<>(noIndexPath, anchored));
+  }
+
+  /**
+   Reads the scalar values of a sequence, after its start event. Values that aren't scalars are
+   skipped.
+   @return The values of the sequence. */
+  private @NotNull ArrayList<String> readSequence() throws ConfigurationException {
+    ArrayList<String> values = new ArrayList<>();
+
+    while (!parser.checkEvent(Event.ID.SequenceEnd)) {
+      Event event = parser.getEvent();
+
+      if (event instanceof ScalarEvent) {
+        ScalarEvent scalar = (ScalarEvent) event;
+        record(scalar.getAnchor(), scalar.getValue(), isNull(scalar));
+        values.add(scalar.getValue());
+      }
+      else if (event instanceof AliasEvent) {
+        Object anchored = anchors.get(((AliasEvent) event).getAnchor());
+        if (anchored == null) throw new ConfigurationException(Lang.errorWhileParsingYaml());
+        if (anchored instanceof String) values.add((String) anchored);
+        else countCollectionAlias();
+      }
+      else if (event instanceof CollectionStartEvent) {
+        skipCollection();
+      }
+    }
+    parser.getEvent();
+
+    return values;
+  }
+
+  /**
+   Skips the events of a collection, after its start event. */
+  private void skipCollection() {
+    int depth = 1;
+    while (depth > 0) {
+      Event event = parser.getEvent();
+      if (event instanceof CollectionStartEvent) depth++;
+      else if (event instanceof CollectionEndEvent) depth--;
+    }
+  }
+
+  /**
+   Counts an alias to a sequence or mapping.
+   @throws ConfigurationException If more aliases to sequences &amp; mappings have been read than
+   are allowed. */
+  private void countCollectionAlias() throws ConfigurationException {
+    // Each alias to a collection copies its values, so unlimited aliases could use up all memory.
+    if (++collectionAliases > maxCollectionAliases) throw new ConfigurationException(Lang.errorWhileParsingYaml());
+  }
+
+  /**
+   Copies the values of an anchored mapping to the mapping of an alias.
+   @param fromPrefix The key path of the anchored mapping, including the trailing ".".
+   @param toPrefix   The key path of the alias, including the trailing ".". */
+  private void copyMapping(@NotNull String fromPrefix, @NotNull String toPrefix) {
+    HashMap<String, Value<?>> copied = new HashMap<>();
+    for (Map.Entry<String, Value<?>> entry : yamlMap.entrySet()) {
+      if (!entry.getKey().startsWith(fromPrefix)) continue;
+      copied.put(toPrefix + entry.getKey().substring(fromPrefix.length()), entry.getValue());
+    }
+    yamlMap.putAll(copied);
+  }
+
+  /**
+   Stores the given value under the given anchor, if there is one.
+   @param anchor The anchor of the value.
+   @param value  The value.
+   @param isNull If the value is null. */
+  private void record(@Nullable String anchor, @NotNull Object value, boolean isNull) {
+    if (anchor == null) return;
+
+    anchors.put(anchor, value);
+    if (isNull) nullAnchors.add(anchor);
+    else nullAnchors.remove(anchor);
+  }
+
+  /**
+   Checks if the given scalar is null, the same way as when the yaml is composed into nodes.
+   @param scalar The given scalar.
+   @return True if the scalar is null. Otherwise, false. */
+  private static boolean isNull(@NotNull ScalarEvent scalar) {
+    String tag = scalar.getTag();
+    if (tag == null || tag.equals("!")) {
+      return resolver.resolve(NodeId.scalar, scalar.getValue(), scalar.getImplicit().canOmitTagInPlainScalar()).equals(Tag.NULL);
+    }
+    return new Tag(tag).equals(Tag.NULL);
+  }
+
+  /**
+   Consumes the next event, which must be of the given type.
+   @param id The type of the event.
+   @throws ConfigurationException If the next event isn't of the given type. */
+  private void expect(@NotNull Event.ID id) throws ConfigurationException {
+    if (!parser.checkEvent(id)) throw new ConfigurationException(Lang.errorWhileParsingYaml());
+    parser.getEvent();
+  }
+}
+}
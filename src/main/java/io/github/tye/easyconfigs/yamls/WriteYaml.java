@@ -11,6 +11,7 @@ import io.github.tye.easyconfigs.internalConfigs.Lang;
 import io.github.tye.easyconfigs.logger.LogType;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.yaml.snakeyaml.DumperOptions;
 import org.yaml.snakeyaml.nodes.*;
 
@@ -28,6 +29,11 @@ import static io.github.tye.easyconfigs.logger.EasyConfigurationsDefaultLogger.l
  This class is for reading &amp; writing values from <a href="https://yaml.org/">yaml</a> data. */
 public class WriteYaml extends ReadYaml {
 
+/**
+ Contains if any keys were removed from, or added to, this yaml when it was created. */
+@InternalUse
+private boolean repaired = false;
+
 /**
  Takes the given input steam &amp; parses it into a yaml format.
  @param internalPath The path to the internal file the yaml data is read from.
@@ -74,6 +80,8 @@ private void removeUnusedKeys(@NotNull ReadYaml defaultYaml, @NotNull File exter
     yamlMap.remove(key);
   }
 
+  if (!toRemove.isEmpty()) repaired = true;
+
   parsedYaml = removeKeysRecursive(parsedYaml, "", toRemove);
 }
 
@@ -149,6 +157,7 @@ private void addMissingKeys(@NotNull ReadYaml fullYaml, @NotNull File externalFi
     Node tuple = nodeValues.get(i);
 
     parsedYaml = addKeysRecursive(parsedYaml, "", key, value, tuple, new ArrayList<>());
+    repaired = true;
 
     // Logs that a missing key was added.
     logger.log(LogType.EXTERNAL_MISSING_PATH, Lang.addingExternalMissingKey(externalFile.getPath(), key));
@@ -220,104 +229,138 @@ private @NotNull MappingNode addKeysRecursive(@NotNull MappingNode rootNode, @No
 
 
 /**
- Replaces the value at the given key with the given value. The replacement value needs to be an
- instance of the class it is marked as.
- @param key              The key to replace the value at.
- @param forStringReplacementValue The new string value of the key.
- @param parsedReplacementValue The new value of the key as the correct class*/
+ @return True if any keys were removed from, or added to, this yaml when it was created. If so, the
+ yaml no longer matches the external file it was read from. */
+@Contract(pure=true)
 @InternalUse
-public void replaceValue(@NotNull String key, @NotNull Object forStringReplacementValue, @NotNull Object parsedReplacementValue) {
-  if (!yamlMap.containsKey(key)) return;
+public boolean isRepaired() {
+  return repaired;
+}
+
 
+/**
+ Creates a new yaml from the given already parsed yaml data.
+ @param parsedYaml The parsed yaml with comments.
+ @param yamlMap    The processed values of the given parsed yaml. */
+@InternalUse
+private WriteYaml(@NotNull MappingNode parsedYaml, @NotNull HashMap<String, Value<?>> yamlMap) {
+  super(parsedYaml, yamlMap);
+}
+
+
+/**
+ Creates a copy of this yaml with the value at the given key replaced with the given value. The
+ replacement value needs to be an instance of the class it is marked as.
+ <p>
+ This yaml isn't modified. Only the nodes on the path to the replaced value are copied, the rest of
+ the yaml is shared with the copy. This means that a yaml can be read, or written to a file, while
+ another thread is replacing its values.
+ @param key                       The key to replace the value at.
+ @param forStringReplacementValue The new string value of the key.
+ @param parsedReplacementValue    The new value of the key as the correct class.
+ @return A copy of this yaml with the value replaced. If the key doesn't exist, then this yaml is
+ returned. */
+@Contract(pure=true)
+@InternalUse
+public @NotNull WriteYaml withValue(@NotNull String key, @NotNull Object forStringReplacementValue, @NotNull Object parsedReplacementValue) {
   Value<?> value = yamlMap.get(key);
-  replaceMapValueRecursive(parsedYaml, new ArrayList<>(value.yamlIndexPath), forStringReplacementValue);
+  if (value == null) return this;
+
+  MappingNode newParsedYaml = replaceMapValueRecursive(parsedYaml, new ArrayList<>(value.yamlIndexPath), forStringReplacementValue);
 
-  yamlMap.put(key, new Value<>(value.yamlIndexPath, parsedReplacementValue));
+  HashMap<String, Value<?>> newYamlMap = new HashMap<>(yamlMap);
+  newYamlMap.put(key, new Value<>(value.yamlIndexPath, parsedReplacementValue, value.kind));
+
+  return new WriteYaml(newParsedYaml, newYamlMap);
 }
 
 
 /**
- Sets the value of an existing key to the new value.
+ Creates a copy of the given node with the value at the given index path replaced. The given node
+ isn't modified.
  @param rootNode     The node to replace the value in.
  @param indexPath    The path to the value being replaced.
  @param replaceValue The value to override the old value with.
- @return The root node with the specified value replaced. */
+ @return A copy of the root node with the specified value replaced. */
+@Contract(pure=true)
 @InternalUse
-private @NotNull MappingNode replaceMapValueRecursive(@NotNull MappingNode rootNode, @NotNull ArrayList<Integer> indexPath, @NotNull Object replaceValue) {
+private static @NotNull MappingNode replaceMapValueRecursive(@NotNull MappingNode rootNode, @NotNull ArrayList<Integer> indexPath, @NotNull Object replaceValue) {
   // The list will always have elements to remove, as recursion only occurs on mapping nodes,
   // and the list is a path though the mapping nodes.
-  Integer nextIndex = indexPath.remove(0);
+  int nextIndex = indexPath.remove(0);
 
   List<NodeTuple> nodes = rootNode.getValue();
   NodeTuple pathTuple = nodes.get(nextIndex);
   Node pathValue = pathTuple.getValueNode();
 
+  Node newValue;
   if (pathValue instanceof MappingNode) {
-    return replaceMapValueRecursive((MappingNode) pathValue, indexPath, replaceValue);
+    newValue = replaceMapValueRecursive((MappingNode) pathValue, indexPath, replaceValue);
   }
 
-  // Non-recursive section //
-
-  ArrayList<NodeTuple> newTuples = new ArrayList<>();
-  for (int i = 0; i < nodes.size(); i++) {
-    NodeTuple oldTuple = nodes.get(i);
-
-    // If it isn't the value to replace don't change it.
-    if (i != nextIndex) {
-      newTuples.add(oldTuple);
-      continue;
-    }
+  // If it's a scalar node then just replace the value.
+  else if (pathValue instanceof ScalarNode) {
+    ScalarNode value = (ScalarNode) pathValue;
+
+    newValue = new ScalarNode(
+        value.getTag(),
+        replaceValue.toString(),
+        value.getStartMark(),
+        value.getEndMark(),
+        value.getScalarStyle()
+    );
+  }
 
+  else if (pathValue instanceof SequenceNode) {
+    SequenceNode value = (SequenceNode) pathValue;
 
-    // If it's a scalar node then just replace the value.
-    if (pathValue instanceof ScalarNode) {
-      ScalarNode value = (ScalarNode) pathValue;
+    // Create Scalar nodes from the replacement values.
+    ArrayList<Node> newNodes = new ArrayList<>();
+    for (String replacingValue : toStringList(replaceValue)) {
 
-      ScalarNode newValue = new ScalarNode(
-          value.getTag(),
-          replaceValue.toString(),
-          value.getStartMark(),
-          value.getEndMark(),
-          value.getScalarStyle()
+      ScalarNode newNode = new ScalarNode(
+          Tag.STR, // Write the value as a string.
+          replacingValue,
+          null,
+          null,
+          DumperOptions.ScalarStyle.DOUBLE_QUOTED
       );
 
-      newTuples.add(new NodeTuple(oldTuple.getKeyNode(), newValue));
-      continue;
+      newNodes.add(newNode);
     }
 
+    // Create a new Sequence node with the new elements.
+    newValue = new SequenceNode(
+        value.getTag(),
+        newNodes,
+        value.getFlowStyle()
+    );
+  }
 
-    if (pathValue instanceof SequenceNode) {
-      SequenceNode value = (SequenceNode) pathValue;
-
-      // Create Scalar nodes from the replacement values.
-      ArrayList<Node> newNodes = new ArrayList<>();
-      for (String replacingValue : toStringList(replaceValue)) {
-
-        ScalarNode newNode = new ScalarNode(
-            Tag.STR, // Write the value as a string.
-            replacingValue,
-            null,
-            null,
-            DumperOptions.ScalarStyle.DOUBLE_QUOTED
-        );
-
-        newNodes.add(newNode);
-      }
-
-      // Create a new Sequence node with the new elements.
-      SequenceNode newValue = new SequenceNode(
-          value.getTag(),
-          newNodes,
-          value.getFlowStyle()
-      );
-
-      newTuples.add(new NodeTuple(oldTuple.getKeyNode(), newValue));
-    }
+  // Any other nodes aren't replaced.
+  else {
+    newValue = pathValue;
   }
 
-  // Update the content of the root node with the modified value.
-  rootNode.setValue(newTuples);
-  return rootNode;
+  // The other tuples are shared with the original node, as they're never modified.
+  ArrayList<NodeTuple> newTuples = new ArrayList<>(nodes);
+  newTuples.set(nextIndex, new NodeTuple(pathTuple.getKeyNode(), newValue));
+
+  MappingNode newRootNode = new MappingNode(
+      rootNode.getTag(),
+      true,
+      newTuples,
+      rootNode.getStartMark(),
+      rootNode.getEndMark(),
+      rootNode.getFlowStyle()
+  );
+
+  // Comments are stored on the node, so they need to be copied across.
+  newRootNode.setBlockComments(rootNode.getBlockComments());
+  newRootNode.setInLineComments(rootNode.getInLineComments());
+  newRootNode.setEndComments(rootNode.getEndComments());
+
+  return newRootNode;
 }
 
 /**
@@ -346,51 +389,25 @@ public void parseValues(@NotNull Class<? extends PersistentInstance> yamlEnum, @
   // Creates a temporary hashMap to put the external parsed values into.
   HashMap<String, Value<?>> externalParsed = new HashMap<>();
 
+  // Values that can't be parsed are null, so the fallback value can be used instead.
   PersistentInstance[] enums = yamlEnum.getEnumConstants();
-  for (PersistentInstance instanceEnum : enums) {
+  Object[] parsedValues = decodeAll(enums, this::tryParseValue);
 
-    String keyPath = instanceEnum.getYamlPath();
-    Class<?> assingedClass = instanceEnum.getAssingedClass();
-
-    // Checks if the class is one supported by EasyConfigurations.
-    if (!SupportedClasses.existsAsEnum(assingedClass)) {
-      String className = Classes.getName(assingedClass);
-      throw new ConfigurationException(Lang.classNotSupported(className));
-    }
-
-    SupportedClasses enumRepresentation = SupportedClasses.getAsEnum(assingedClass);
-    Object rawValue = yamlMap.get(keyPath).parsedValue;
-
-    // Checks if the value can be parsed as its intended class.
-    boolean canParse;
-    if (enumRepresentation == SupportedClasses.CONFIG_OBJECT || enumRepresentation == SupportedClasses.CONFIG_OBJECT_LIST) {
-      try {
-        canParse = enumRepresentation.canParseCustom(assingedClass, rawValue);
-      }
-      catch (ConfigurationException ignore) {canParse = false;}
-    }
-    else {
-      canParse = enumRepresentation.canParse(rawValue);
-    }
+  // The fallbacks are logged in the order of the enum, even if the values were parsed in parallel.
+  for (int i = 0; i < enums.length; i++) {
+    String keyPath = enums[i].getYamlPath();
+    Object parsedValue = parsedValues[i];
 
     // If it can't then use the default value parsed from the internal yaml.
-    if (!canParse) {
-      logger.log(LogType.USING_FALLBACK_VALUE, Lang.invalidExternalKey(keyPath, externalYaml, rawValue.getClass()));
+    if (parsedValue == null) {
+      logger.log(LogType.USING_FALLBACK_VALUE, Lang.invalidExternalKey(keyPath, externalYaml, yamlMap.get(keyPath).parsedValue.getClass()));
       continue;
     }
 
-    // Parses the values as its intended class.
-    Object parsedValue;
-    if (enumRepresentation == SupportedClasses.CONFIG_OBJECT || enumRepresentation == SupportedClasses.CONFIG_OBJECT_LIST) {
-      parsedValue = enumRepresentation.parseCustom(assingedClass, rawValue);
-    }
-    else {
-      parsedValue = enumRepresentation.parse(rawValue);
-    }
-
     // Replaces the value in the Hashmap with the value as the correct class.
+    SupportedClasses enumRepresentation = SupportedClasses.getAsEnum(enums[i].getAssingedClass());
     List<Integer> yamlIndexPath = yamlMap.get(keyPath).yamlIndexPath;
-    externalParsed.put(keyPath, new Value<>(yamlIndexPath, parsedValue));
+    externalParsed.put(keyPath, new Value<>(yamlIndexPath, parsedValue, enumRepresentation));
   }
 
   // Parses the internal yaml values to use as a fallback if needed.
@@ -399,4 +416,35 @@ public void parseValues(@NotNull Class<? extends PersistentInstance> yamlEnum, @
   // Replaces the internal values with the parsed external ones (if they exist).
   yamlMap.putAll(externalParsed);
 }
+
+/**
+ Parses the value of the given instance within the external yaml to the class specified by the
+ instance. The yaml isn't modified, so this can be called from multiple threads at the same time.
+ @param instance The instance to parse the value of.
+ @return The parsed value, or null if the value can't be parsed.
+ @throws ConfigurationException If the instance is marked as a class EasyConfigurations doesn't
+ support. */
+@InternalUse
+private @Nullable Object tryParseValue(@NotNull Instance instance) throws ConfigurationException {
+  String keyPath = instance.getYamlPath();
+  Class<?> assingedClass = instance.getAssingedClass();
+
+  // Checks if the class is one supported by EasyConfigurations.
+  if (!SupportedClasses.existsAsEnum(assingedClass)) {
+    String className = Classes.getName(assingedClass);
+    throw new ConfigurationException(Lang.classNotSupported(className));
+  }
+
+  SupportedClasses enumRepresentation = SupportedClasses.getAsEnum(assingedClass);
+  Object rawValue = yamlMap.get(keyPath).parsedValue;
+
+  // Parses the value as its intended class, which is null if it can't be parsed.
+  if (enumRepresentation == SupportedClasses.CONFIG_OBJECT || enumRepresentation == SupportedClasses.CONFIG_OBJECT_LIST) {
+    try {
+      return enumRepresentation.tryParseCustom(assingedClass, rawValue);
+    }
+    catch (ConfigurationException ignore) {return null;}
+  }
+  return enumRepresentation.tryParse(rawValue);
+}
 }
@@ -0,0 +1,26 @@
+package io.github.tye.tests;
+
+import io.github.tye.easyconfigs.ConfigObject;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ A config object that throws a {@link NumberFormatException} rather than an
+ {@link io.github.tye.easyconfigs.exceptions.InvalidDataException} for malformed data. */
+public class NumberObject implements ConfigObject {
+
+private int number;
+
+public NumberObject() {}
+
+@Override
+public @NotNull String getConfigString() {
+  return String.valueOf(number);
+}
+
+@Override
+public @NotNull ConfigObject parseConfigString(@NotNull String configString) {
+  NumberObject parsed = new NumberObject();
+  parsed.number = Integer.parseInt(configString);
+  return parsed;
+}
+}
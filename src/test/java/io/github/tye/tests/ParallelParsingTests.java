@@ -0,0 +1,141 @@
+package io.github.tye.tests;
+
+import io.github.tye.easyconfigs.EasyConfigurations;
+import io.github.tye.easyconfigs.exceptions.ConfigurationException;
+import io.github.tye.easyconfigs.yamls.ReadYaml;
+import io.github.tye.tests.readingInstanceClasses.ReadingConfig_Parallel;
+import io.github.tye.tests.readingInstanceClasses.ReadingConfig_ParallelCustom;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ Tests that parsing configs on a parsing pool gives the same result as parsing them on the
+ registering thread. */
+public class ParallelParsingTests {
+
+@AfterEach
+public void reset_environment() {
+  EasyConfigurations.setParsingPool(null);
+}
+
+/**
+ The amount of dates in each list of the test yaml. */
+private static final int DATES = 60;
+
+/**
+ Creates a yaml containing a list of dates for every value of {@link ReadingConfig_Parallel}.
+ @param invalid The indexes of the lists to put an invalid date into.
+ @return The yaml. */
+private static String createYaml(int... invalid) {
+  StringBuilder yaml = new StringBuilder();
+
+  for (ReadingConfig_Parallel instance : ReadingConfig_Parallel.values()) {
+    yaml.append(instance.getYamlPath()).append(":\n");
+
+    for (int i = 0; i < DATES; i++) {
+      yaml.append("  - \"2024-01-01T00:00:").append(String.format("%02d", i % 60)).append("Z[UTC]\"\n");
+    }
+
+    for (int index : invalid) {
+      if (index == instance.ordinal()) yaml.append("  - \"not a date\"\n");
+    }
+  }
+
+  return yaml.toString();
+}
+
+/**
+ Parses the given yaml with the values of {@link ReadingConfig_Parallel}.
+ @param yaml The yaml to parse.
+ @return The parsed yaml. */
+private static ReadYaml parse(String yaml) throws IOException, ConfigurationException {
+  ReadYaml readYaml = new ReadYaml(new ByteArrayInputStream(yaml.getBytes(StandardCharsets.UTF_8)));
+  readYaml.parseValues(ReadingConfig_Parallel.class, "parallel");
+  return readYaml;
+}
+
+/**
+ Values parsed on a pool should be identical to the ones parsed on the registering thread. */
+@Test
+public void parallelParsingIsIdentical() throws IOException, ConfigurationException {
+  String yaml = createYaml();
+  ReadYaml sequential = parse(yaml);
+
+  ForkJoinPool pool = new ForkJoinPool(4);
+  try {
+    EasyConfigurations.setParsingPool(pool);
+    ReadYaml parallel = parse(yaml);
+
+    for (ReadingConfig_Parallel instance : ReadingConfig_Parallel.values()) {
+      List<?> expected = (List<?>) sequential.getValue(instance.getYamlPath());
+      List<?> actual = (List<?>) parallel.getValue(instance.getYamlPath());
+
+      assertEquals(DATES, expected.size());
+      assertEquals(expected, actual);
+      assertEquals(sequential.getKind(instance.getYamlPath()), parallel.getKind(instance.getYamlPath()));
+    }
+  } finally {
+    pool.shutdown();
+  }
+}
+
+/**
+ If multiple values can't be parsed, the exception for the first one in the enum should be thrown,
+ whether the values are parsed on a pool or not. */
+@Test
+public void parallelParsingThrowsFirstException() {
+  String yaml = createYaml(27, 5, 20);
+  ConfigurationException sequential = assertThrows(ConfigurationException.class, () -> parse(yaml));
+
+  ForkJoinPool pool = new ForkJoinPool(4);
+  try {
+    EasyConfigurations.setParsingPool(pool);
+    ConfigurationException parallel = assertThrows(ConfigurationException.class, () -> parse(yaml));
+
+    assertEquals(sequential.getMessage(), parallel.getMessage());
+    assertTrue(parallel.getMessage().contains(ReadingConfig_Parallel.list5.getYamlPath()));
+  } finally {
+    pool.shutdown();
+  }
+}
+
+/**
+ If custom objects throw runtime exceptions while being parsed, the exception for the first one in
+ the enum should be thrown, whether the values are parsed on a pool or not. */
+@Test
+public void parallelParsingThrowsFirstRuntimeException() {
+  StringBuilder numbers = new StringBuilder();
+  for (ReadingConfig_ParallelCustom instance : ReadingConfig_ParallelCustom.values()) {
+    int ordinal = instance.ordinal();
+    String value = (ordinal == 5 || ordinal == 20 || ordinal == 27) ? "bad" + ordinal : String.valueOf(ordinal);
+    numbers.append(instance.getYamlPath()).append(": \"").append(value).append("\"\n");
+  }
+  byte[] yaml = numbers.toString().getBytes(StandardCharsets.UTF_8);
+
+  NumberFormatException sequential = assertThrows(NumberFormatException.class,
+      () -> new ReadYaml(new ByteArrayInputStream(yaml)).parseValues(ReadingConfig_ParallelCustom.class, "parallel"));
+  assertTrue(sequential.getMessage().contains("bad5"));
+
+  ForkJoinPool pool = new ForkJoinPool(4);
+  try {
+    EasyConfigurations.setParsingPool(pool);
+
+    // Parsed multiple times, as the order the values are parsed in can change each time.
+    for (int i = 0; i < 10; i++) {
+      NumberFormatException parallel = assertThrows(NumberFormatException.class,
+          () -> new ReadYaml(new ByteArrayInputStream(yaml)).parseValues(ReadingConfig_ParallelCustom.class, "parallel"));
+      assertEquals(sequential.getMessage(), parallel.getMessage());
+    }
+  } finally {
+    pool.shutdown();
+  }
+}
+}
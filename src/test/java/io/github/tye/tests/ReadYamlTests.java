@@ -5,20 +5,42 @@ import io.github.tye.easyconfigs.EasyConfigurations;
 import io.github.tye.easyconfigs.exceptions.ConfigurationException;
 import io.github.tye.easyconfigs.exceptions.NotInitiatedException;
 import io.github.tye.easyconfigs.exceptions.NotOfClassException;
-import io.github.tye.easyconfigs.instances.persistent.PersistentInstanceHandler;
+import io.github.tye.easyconfigs.handles.BooleanHandle;
+import io.github.tye.easyconfigs.handles.ConfigHandle;
+import io.github.tye.easyconfigs.handles.IntHandle;
+import io.github.tye.easyconfigs.instances.InstanceRegistry;
+import io.github.tye.easyconfigs.instances.LocaleRegistry;
+import io.github.tye.easyconfigs.instances.ValueStore;
 import io.github.tye.easyconfigs.instances.reading.ReadingInstanceHandler;
+import io.github.tye.easyconfigs.keys.Bindings;
+import io.github.tye.easyconfigs.keys.LangTemplate;
+import io.github.tye.easyconfigs.keys.RenderCache;
 import io.github.tye.easyconfigs.logger.LogType;
 import io.github.tye.easyconfigs.yamls.ReadYaml;
+import io.github.tye.easyconfigs.yamls.StreamedYaml;
 import io.github.tye.tests.readingInstanceClasses.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.StringWriter;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -26,10 +48,14 @@ public class ReadYamlTests {
 
 @BeforeEach
 public void reset_environment() {
-  EasyConfigurations.persistentConfigInstance = new PersistentInstanceHandler();
-  EasyConfigurations.persistentLangInstance = new PersistentInstanceHandler();
-  EasyConfigurations.readOnlyLangInstance = new ReadingInstanceHandler();
-  EasyConfigurations.readOnlyConfigInstance = new ReadingInstanceHandler();
+  // Registering a handler without values makes an enum act as if it was never registered.
+  InstanceRegistry.register(ReadingConfig_Custom.class, new ReadingInstanceHandler());
+  InstanceRegistry.register(ReadingConfig_General.class, new ReadingInstanceHandler());
+  InstanceRegistry.register(ReadingConfig_HasNull.class, new ReadingInstanceHandler());
+  InstanceRegistry.register(ReadingConfig_Unsupported.class, new ReadingInstanceHandler());
+  InstanceRegistry.register(ReadingLang_ArrayFail.class, new ReadingInstanceHandler());
+  InstanceRegistry.register(ReadingLang_General.class, new ReadingInstanceHandler());
+  InstanceRegistry.register(ReadingLang_Keys.class, new ReadingInstanceHandler());
 }
 
 /**
@@ -139,6 +165,54 @@ public void genericConfig() throws IOException, ConfigurationException {
   }
 }
 
+/**
+ Tests if the primitive values are retrieved correctly from their unboxed storage. */
+@Test
+public void primitiveConfig() throws IOException, ConfigurationException {
+  EasyConfigurations.registerReadOnlyConfig(ReadingConfig_General.class, "/tests/Yamls/internalYamls/Config_General.yml");
+
+  assertEquals(4, ReadingConfig_General.example.getAsInteger());
+  assertEquals(83.93f, ReadingConfig_General.floats.getAsFloat());
+  assertTrue(ReadingConfig_General.mhm.getAsBoolean());
+  assertFalse(ReadingConfig_General.nuhuh.getAsBoolean());
+}
+
+/**
+ Tests that list configs can't be modified by the caller. */
+@Test
+public void readOnlyLists() throws IOException, ConfigurationException {
+  EasyConfigurations.registerReadOnlyConfig(ReadingConfig_General.class, "/tests/Yamls/internalYamls/Config_General.yml");
+
+  List<String> note = ReadingConfig_General.note.getAsStringList();
+  assertThrowsExactly(UnsupportedOperationException.class, () -> note.add("Modified"));
+  assertThrowsExactly(UnsupportedOperationException.class, () -> note.set(0, "Modified"));
+
+  // As the list can't be modified, the same list is returned every time.
+  assertSame(note, ReadingConfig_General.note.getAsStringList());
+}
+
+/**
+ Tests retrieving configs through handles, which are bound before the config is registered. */
+@Test
+public void configHandles() throws IOException, ConfigurationException {
+  IntHandle example = ReadingConfig_General.example.intHandle();
+  BooleanHandle mhm = ReadingConfig_General.mhm.booleanHandle();
+  ConfigHandle<String> quotes = ReadingConfig_General.quotes.handle(String.class);
+
+  assertThrowsExactly(NotInitiatedException.class, example::get);
+
+  EasyConfigurations.registerReadOnlyConfig(ReadingConfig_General.class, "/tests/Yamls/internalYamls/Config_General.yml");
+
+  assertEquals(ReadingConfig_General.example.getAsInteger(), example.get());
+  assertEquals(ReadingConfig_General.mhm.getAsBoolean(), mhm.get());
+  assertEquals(ReadingConfig_General.quotes.getAsString(), quotes.get());
+
+  // The class is checked when the handle is created.
+  assertThrowsExactly(NotOfClassException.class, ReadingConfig_General.floats::intHandle);
+  assertThrowsExactly(NotOfClassException.class, () -> ReadingConfig_General.note.handle(String.class));
+  assertThrowsExactly(NotOfClassException.class, () -> ReadingConfig_General.time.handle(String.class));
+}
+
 /**
  Content of lang file */
 private static final HashMap<String, Object> lang_General;
@@ -220,6 +294,267 @@ public void lang_keys() throws IOException, ConfigurationException {
 
 }
 
+/**
+ Tests replacing keys that appear multiple times, along with keys that aren't given. */
+@Test
+public void lang_keysRepeated() throws IOException, ConfigurationException {
+  EasyConfigurations.registerReadOnlyLang(ReadingLang_Keys.class, "/tests/Yamls/internalYamls/Lang_Keys.yml");
+
+  assertEquals(
+      "Ha, Hmm & Ha again, but not {missing}",
+      ReadingLang_Keys.repeated.get(Keys.joke.replaceWith("Ha"), Keys.unJoke.replaceWith("Hmm")));
+
+  // Replacements aren't searched for keys again.
+  assertEquals(
+      "{unJoke}, Hmm & {unJoke} again, but not {missing}",
+      ReadingLang_Keys.repeated.get(Keys.joke.replaceWith("{unJoke}"), Keys.unJoke.replaceWith("Hmm")));
+
+  // The value is split again if the key characters are changed.
+  EasyConfigurations.setKeyCharacters("<", ">");
+  try {
+    assertEquals(
+        "{joke}, {unJoke} & {joke} again, but not {missing}",
+        ReadingLang_Keys.repeated.get(Keys.joke.replaceWith("Ha")));
+  }
+  finally {
+    EasyConfigurations.setKeyCharacters("{", "}");
+  }
+}
+
+/**
+ Tests that a value is only split again once after the key characters are changed, so cached
+ responses are still reused. */
+@Test
+public void lang_keyCharactersChangedAfterRegistering() throws IOException, ConfigurationException, NotInitiatedException {
+  EasyConfigurations.registerReadOnlyLang(ReadingLang_Keys.class, "/tests/Yamls/internalYamls/Lang_Keys.yml");
+  RenderCache cache = EasyConfigurations.enableRenderCache(ReadingLang_Keys.class, 4);
+  ValueStore values = InstanceRegistry.reading(ReadingLang_Keys.joke).getValues();
+
+  EasyConfigurations.setKeyCharacters("<<", ">>");
+  try {
+    LangTemplate template = values.getTemplate(ReadingLang_Keys.multiCharacter);
+    assertTrue(template.isCurrent());
+    assertSame(template, values.getTemplate(ReadingLang_Keys.multiCharacter));
+
+    for (int i = 0; i < 3; i++) {
+      assertEquals(
+          "Ha, <<<unJoke>> & Ha, but not {joke}",
+          ReadingLang_Keys.multiCharacter.get(Keys.joke.with("Ha")));
+    }
+    assertEquals(1, cache.getMisses());
+    assertEquals(2, cache.getHits());
+  }
+  finally {
+    EasyConfigurations.setKeyCharacters("{", "}");
+  }
+
+  // Changing the key characters back splits the value again.
+  assertEquals(
+      "I know a good joke! Ha",
+      ReadingLang_Keys.joke.get(Keys.joke.with("Ha")));
+  LangTemplate template = values.getTemplate(ReadingLang_Keys.multiCharacter);
+  assertTrue(template.isCurrent());
+  assertSame(template, values.getTemplate(ReadingLang_Keys.multiCharacter));
+}
+
+/**
+ Tests replacing keys that use multiple characters to start &amp; end a key. */
+@Test
+public void lang_multiCharacterKeys() throws IOException, ConfigurationException {
+  EasyConfigurations.setKeyCharacters("<<", ">>");
+  try {
+    EasyConfigurations.registerReadOnlyLang(ReadingLang_Keys.class, "/tests/Yamls/internalYamls/Lang_Keys.yml");
+
+    assertEquals(
+        "Ha, <Hmm & Ha, but not {joke}",
+        ReadingLang_Keys.multiCharacter.get(Keys.unJoke.with("Hmm").and(Keys.joke, "Ha")));
+
+    // Keys that aren't given are left unchanged.
+    assertEquals(
+        "<<joke>>, <Hmm & <<joke>>, but not {joke}",
+        ReadingLang_Keys.multiCharacter.get(Keys.unJoke.replaceWith("Hmm")));
+  }
+  finally {
+    EasyConfigurations.setKeyCharacters("{", "}");
+  }
+}
+
+/**
+ Tests rendering lang with bindings, which don't share any state between threads. */
+@Test
+public void lang_bindings() throws IOException, ConfigurationException, InterruptedException {
+  EasyConfigurations.registerReadOnlyLang(ReadingLang_Keys.class, "/tests/Yamls/internalYamls/Lang_Keys.yml");
+
+  Bindings bindings = Keys.joke.with("Ha").and(Keys.unJoke, "Hmm");
+  assertEquals("Ha, Hmm & Ha again, but not {missing}", ReadingLang_Keys.repeated.get(bindings));
+
+  // Bindings aren't reset after rendering.
+  assertEquals("I know a good joke! Ha", ReadingLang_Keys.joke.get(bindings));
+  assertEquals("I know a good joke! {joke}", ReadingLang_Keys.joke.get(Keys.unJoke.with("Hmm")));
+
+  // Each thread renders with its own value, so the responses should never contain another thread's value.
+  int renders = 20_000;
+  AtomicBoolean mixed = new AtomicBoolean(false);
+  Thread[] threads = new Thread[4];
+  for (int i = 0; i < threads.length; i++) {
+    String value = "thread " + i;
+    Bindings threadBindings = Keys.joke.with(value);
+    String expected = "I know a good joke! " + value;
+
+    threads[i] = new Thread(() -> {
+      for (int j = 0; j < renders; j++) {
+        if (!expected.equals(ReadingLang_Keys.joke.get(threadBindings))) mixed.set(true);
+      }
+    });
+    threads[i].start();
+  }
+
+  for (Thread thread : threads) thread.join();
+  assertFalse(mixed.get());
+}
+
+/**
+ Tests appending lang responses directly into a builder &amp; a writer. */
+@Test
+public void lang_appendTo() throws IOException, ConfigurationException {
+  EasyConfigurations.registerReadOnlyLang(ReadingLang_Keys.class, "/tests/Yamls/internalYamls/Lang_Keys.yml");
+
+  StringBuilder builder = new StringBuilder("> ");
+  ReadingLang_Keys.joke.appendTo(builder, Keys.joke.replaceWith("Ha"));
+  builder.append(" | ");
+  ReadingLang_Keys.repeated.appendTo(builder, Keys.joke.with("Ha").and(Keys.unJoke, "Hmm"));
+  assertEquals("> I know a good joke! Ha | Ha, Hmm & Ha again, but not {missing}", builder.toString());
+
+  StringWriter writer = new StringWriter();
+  ReadingLang_Keys.unJoke.appendTo(writer, Keys.unJoke.with("Potato"));
+  ReadingLang_Keys.joke.appendTo(writer);
+  assertEquals("I know a bad joke! PotatoI know a good joke! {joke}", writer.toString());
+}
+
+/**
+ Tests writing lang responses as UTF-8 directly into a stream &amp; a buffer. */
+@Test
+public void lang_writeTo() throws IOException, ConfigurationException {
+  EasyConfigurations.registerReadOnlyLang(ReadingLang_Keys.class, "/tests/Yamls/internalYamls/Lang_Keys.yml");
+
+  ByteArrayOutputStream stream = new ByteArrayOutputStream();
+  ReadingLang_Keys.repeated.writeTo(stream, Keys.joke.with("Grüße").and(Keys.unJoke, "☃"));
+  assertEquals("Grüße, ☃ & Grüße again, but not {missing}", new String(stream.toByteArray(), StandardCharsets.UTF_8));
+
+  ByteBuffer buffer = ByteBuffer.allocate(64);
+  ReadingLang_Keys.joke.writeTo(buffer, Keys.joke.replaceWith("Grüße"));
+  assertEquals("I know a good joke! Grüße", new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8));
+
+  // Nothing is written if the response doesn't fit.
+  ByteBuffer small = ByteBuffer.allocate(8);
+  assertThrowsExactly(BufferOverflowException.class, () -> ReadingLang_Keys.joke.writeTo(small));
+  assertEquals(0, small.position());
+}
+
+/**
+ Tests rendering lang with numbers, chars &amp; text that aren't converted to strings first. */
+@Test
+public void lang_typedValues() throws IOException, ConfigurationException {
+  EasyConfigurations.registerReadOnlyLang(ReadingLang_Keys.class, "/tests/Yamls/internalYamls/Lang_Keys.yml");
+
+  assertEquals("I know a good joke! 42", ReadingLang_Keys.joke.get(Keys.joke, 42));
+  assertEquals("I know a good joke! 9000000000", ReadingLang_Keys.joke.get(Keys.joke, 9_000_000_000L));
+  assertEquals("I know a good joke! 1.5", ReadingLang_Keys.joke.get(Keys.joke, 1.5));
+  assertEquals("I know a good joke! ?", ReadingLang_Keys.joke.get(Keys.joke, '?'));
+  assertEquals("I know a good joke! {joke}", ReadingLang_Keys.joke.get(Keys.unJoke, 42));
+  assertEquals("7, {unJoke} & 7 again, but not {missing}", ReadingLang_Keys.repeated.get(Keys.joke, 7));
+
+  StringBuilder out = new StringBuilder("> ");
+  ReadingLang_Keys.repeated.appendTo(out, Keys.unJoke, new StringBuilder("text"));
+  assertEquals("> {joke}, text & {joke} again, but not {missing}", out.toString());
+
+  assertEquals("3, 2.5 & 3 again, but not {missing}", ReadingLang_Keys.repeated.get(Keys.joke.with(3).and(Keys.unJoke, 2.5)));
+  assertEquals(Keys.joke.with(3).and(Keys.unJoke, 'x'), Keys.joke.with(3).and(Keys.unJoke, 'x'));
+  assertNotEquals(Keys.joke.with(3), Keys.joke.with("3"));
+}
+
+/**
+ Tests getting lang responses for registered locales, their fallbacks, &amp; unregistered locales. */
+@Test
+public void lang_locales() throws IOException, ConfigurationException {
+  EasyConfigurations.registerReadOnlyLang(ReadingLang_Keys.class, "/tests/Yamls/internalYamls/Lang_Keys.yml");
+  EasyConfigurations.registerLangLocale(ReadingLang_Keys.class, Locale.GERMAN, "/tests/Yamls/internalYamls/Lang_Keys_de.yml");
+  EasyConfigurations.registerLangLocale(ReadingLang_Keys.class, new Locale("de", "AT"), "/tests/Yamls/internalYamls/Lang_Keys_de_AT.yml");
+
+  assertEquals("I kenn an guadn Witz! a", ReadingLang_Keys.joke.get(new Locale("de", "AT"), Keys.joke.with("a")));
+  // Values missing from a locale are taken from its fallbacks.
+  assertEquals("Ich kenne einen schlechten Witz! b", ReadingLang_Keys.unJoke.get(new Locale("de", "AT"), Keys.unJoke.with("b")));
+  assertEquals("a, b & a again, but not {missing}", ReadingLang_Keys.repeated.get(new Locale("de", "AT"), Keys.joke.with("a").and(Keys.unJoke, "b")));
+
+  // Unregistered locales use their closest registered locale.
+  assertEquals("Ich kenne einen guten Witz! a", ReadingLang_Keys.joke.get(Locale.GERMANY, Keys.joke.with("a")));
+  assertEquals("I know a good joke! a", ReadingLang_Keys.joke.get(Locale.FRENCH, Keys.joke.with("a")));
+
+  // Retrieving an unregistered locale again uses the same fallback.
+  assertEquals("Ich kenne einen guten Witz! b", ReadingLang_Keys.joke.get(Locale.GERMANY, Keys.joke.with("b")));
+  assertEquals("I know a good joke! b", ReadingLang_Keys.joke.get(Locale.FRENCH, Keys.joke.with("b")));
+
+  // Registering a locale replaces the fallback it was previously retrieved with.
+  EasyConfigurations.registerLangLocale(ReadingLang_Keys.class, Locale.GERMANY, "/tests/Yamls/internalYamls/Lang_Keys_de_AT.yml");
+  assertEquals("I kenn an guadn Witz! a", ReadingLang_Keys.joke.get(Locale.GERMANY, Keys.joke.with("a")));
+}
+
+/**
+ Tests that lazy locales are only loaded once used, &amp; are removed after being idle. */
+@Test
+public void lang_lazyLocales() throws IOException, ConfigurationException, InterruptedException {
+  EasyConfigurations.registerReadOnlyLang(ReadingLang_Keys.class, "/tests/Yamls/internalYamls/Lang_Keys.yml");
+  EasyConfigurations.registerLazyLangLocale(ReadingLang_Keys.class, Locale.GERMAN, "/tests/Yamls/internalYamls/Lang_Keys_de.yml");
+  EasyConfigurations.registerLazyLangLocale(ReadingLang_Keys.class, new Locale("de", "AT"), "/tests/Yamls/internalYamls/Lang_Keys_de_AT.yml");
+  assertThrowsExactly(IOException.class, () -> EasyConfigurations.registerLazyLangLocale(ReadingLang_Keys.class, Locale.FRENCH, "/tests/Yamls/internalYamls/Lang_Keys_fr.yml"));
+
+  LocaleRegistry locales = ((ReadingInstanceHandler) InstanceRegistry.getHandler(ReadingLang_Keys.class)).getLocales();
+  assertFalse(locales.isLoaded(Locale.GERMAN));
+
+  // Fallbacks are loaded along with the retrieved locale.
+  assertEquals("Ich kenne einen schlechten Witz! b", ReadingLang_Keys.unJoke.get(new Locale("de", "AT"), Keys.unJoke.with("b")));
+  assertTrue(locales.isLoaded(Locale.GERMAN));
+  assertTrue(locales.isLoaded(new Locale("de", "AT")));
+
+  EasyConfigurations.setLocaleIdleTimeout(ReadingLang_Keys.class, 1, TimeUnit.MILLISECONDS);
+  Thread.sleep(20);
+
+  assertEquals("I know a good joke! a", ReadingLang_Keys.joke.get(Locale.FRENCH, Keys.joke.with("a")));
+  assertFalse(locales.isLoaded(Locale.GERMAN));
+  assertFalse(locales.isLoaded(new Locale("de", "AT")));
+
+  // Evicted locales are loaded again when used.
+  assertEquals("Ich kenne einen guten Witz! a", ReadingLang_Keys.joke.get(Locale.GERMAN, Keys.joke.with("a")));
+}
+
+/**
+ Tests that a lazy locale is always used once loaded, even if it's instantly idle &amp; other threads
+ are removing idle locales. */
+@Test
+public void lang_lazyLocalesShortIdleTimeout() throws IOException, ConfigurationException, InterruptedException {
+  EasyConfigurations.registerReadOnlyLang(ReadingLang_Keys.class, "/tests/Yamls/internalYamls/Lang_Keys.yml");
+  EasyConfigurations.registerLazyLangLocale(ReadingLang_Keys.class, Locale.GERMAN, "/tests/Yamls/internalYamls/Lang_Keys_de.yml");
+  EasyConfigurations.setLocaleIdleTimeout(ReadingLang_Keys.class, 1, TimeUnit.NANOSECONDS);
+
+  List<String> wrong = Collections.synchronizedList(new ArrayList<>());
+  Thread[] threads = new Thread[4];
+  for (int i = 0; i < threads.length; i++) {
+    threads[i] = new Thread(() -> {
+      for (int j = 0; j < 200; j++) {
+        String german = ReadingLang_Keys.joke.get(Locale.GERMAN, Keys.joke.with("a"));
+        if (!german.equals("Ich kenne einen guten Witz! a")) wrong.add(german);
+
+        // Retrieving another locale removes the idle german locale.
+        ReadingLang_Keys.joke.get(Locale.FRENCH, Keys.joke.with("a"));
+      }
+    });
+    threads[i].start();
+  }
+  for (Thread thread : threads) thread.join();
+
+  assertEquals(Collections.emptyList(), wrong);
+}
+
 /**
  Tests if the config hasn't been initiated it should throw the respective exception. */
 @Test
@@ -227,6 +562,31 @@ public void notInitiated() {
   assertThrowsExactly(NotInitiatedException.class, ReadingConfig_General.time::getValue);
 }
 
+/**
+ Tests that an instance from a different enum can't read the values of the registered enum. */
+@Test
+public void otherEnumNotInitiated() throws IOException, ConfigurationException {
+  EasyConfigurations.registerReadOnlyConfig(ReadingConfig_General.class, "/tests/Yamls/internalYamls/Config_General.yml");
+
+  assertDoesNotThrow(ReadingConfig_General.example::getValue);
+  assertThrowsExactly(NotInitiatedException.class, ReadingConfig_Custom.NAME::getValue);
+}
+
+/**
+ Tests if multiple config &amp; lang enums can be registered at the same time. */
+@Test
+public void multipleEnumsRegistered() throws IOException, ConfigurationException {
+  EasyConfigurations.registerReadOnlyConfig(ReadingConfig_General.class, "/tests/Yamls/internalYamls/Config_General.yml");
+  EasyConfigurations.registerReadOnlyConfig(ReadingConfig_Custom.class, "/tests/Yamls/Config_Custom.yml");
+  EasyConfigurations.registerReadOnlyLang(ReadingLang_General.class, "/tests/Yamls/internalYamls/Lang_General.yml");
+
+  // Registering the later enums shouldn't replace the earlier ones.
+  assertDoesNotThrow(ReadingConfig_General.example::getValue);
+  assertEquals(new CustomObject("Bob", 3), ReadingConfig_Custom.NAME.getAsConfigObject());
+  assertEquals("or well it should", ReadingLang_General.hehe.get());
+  assertEquals(new CustomObject("Bob", 3), EasyConfigurations.snapshot(ReadingConfig_Custom.class).getAsConfigObject(ReadingConfig_Custom.NAME));
+}
+
 /**
  Tests if a config is got as the incorrect type the respective exception should be thrown. */
 @Test
@@ -258,4 +618,117 @@ public void customObject() throws ConfigurationException, IOException {
       new CustomObject("Jacob", 0),
       ReadingConfig_Custom.NAMES.getAsConfigObjectList().get(1));
 }
+
+/**
+ Reading a yaml from its parse events should result in the same values as reading it from its
+ nodes. */
+@ParameterizedTest
+@ValueSource(strings = {
+    "/tests/Yamls/internalYamls/Config_General.yml",
+    "/tests/Yamls/internalYamls/Config_ExtraKey.yml",
+    "/tests/Yamls/internalYamls/Lang_General.yml",
+    "/tests/Yamls/internalYamls/Lang_Keys.yml",
+    "/tests/Yamls/externalYamls/Config_DefaultYaml.yml",
+    "/tests/Yamls/Config_Custom.yml"})
+public void streamedMatchesComposed(String resourcePath) throws IOException, ConfigurationException {
+  ReadYaml composed;
+  try (InputStream yamlData = EasyConfigurations.class.getResourceAsStream(resourcePath)) {
+    assert yamlData != null;
+    composed = new ReadYaml(yamlData);
+  }
+
+  ReadYaml streamed;
+  try (InputStream yamlData = EasyConfigurations.class.getResourceAsStream(resourcePath)) {
+    assert yamlData != null;
+    streamed = new StreamedYaml(yamlData);
+  }
+
+  assertTrue(composed.identical(streamed));
+}
+
+/**
+ Anchors &amp; aliases should be resolved the same way as when the yaml is read from its nodes. */
+@Test
+public void streamedAliases() throws IOException, ConfigurationException {
+  String yaml = "base: &base\n" +
+                "  name: \"Bob\"\n" +
+                "  age: &age 3\n" +
+                "copy: *base\n" +
+                "list: &list [ *age, \"4\", [ \"skipped\" ] ]\n" +
+                "listCopy: *list\n" +
+                "ageCopy: *age\n";
+
+  ReadYaml composed = new ReadYaml(new ByteArrayInputStream(yaml.getBytes(StandardCharsets.UTF_8)));
+  ReadYaml streamed = new StreamedYaml(new ByteArrayInputStream(yaml.getBytes(StandardCharsets.UTF_8)));
+
+  assertTrue(composed.identical(streamed));
+  assertEquals("Bob", streamed.getValue("copy.name"));
+  assertEquals(Arrays.asList("3", "4"), streamed.getValue("listCopy"));
+}
+
+/**
+ Reading a yaml from its parse events should throw for the same yamls as reading it from its
+ nodes. */
+@ParameterizedTest
+@ValueSource(strings = {
+    "",
+    "This string does not AT ALL follow the yaml format :).",
+    "- \"not\"\n- \"a mapping\"\n",
+    "first: 1\n---\nsecond: 2\n",
+    "empty:\n",
+    "empty: ~\n",
+    "nested:\n  empty: !!null \"\"\n",
+    "missing: *anchor\n",
+    "[ \"complex\" ]: \"key\"\n"})
+public void streamedInvalid(String yaml) {
+  assertThrowsExactly(
+      ConfigurationException.class,
+      () -> new StreamedYaml(new ByteArrayInputStream(yaml.getBytes(StandardCharsets.UTF_8))));
+}
+
+/**
+ Reading a yaml from its parse events should limit the aliases to sequences &amp; mappings the same
+ way as reading it from its nodes, so yamls such as a "billion laughs" can't use up all memory. */
+@Test
+public void streamedAliasLimit() throws IOException, ConfigurationException {
+  StringBuilder yaml = new StringBuilder("list: &list [\"a\", \"b\"]\nmap: &map\n  key: \"value\"\n");
+  for (int i = 0; i < 25; i++) {
+    yaml.append("list").append(i).append(": *list\n");
+    yaml.append("map").append(i).append(": *map\n");
+  }
+
+  // The default limit of 50 aliases isn't exceeded.
+  ReadYaml composed = new ReadYaml(new ByteArrayInputStream(yaml.toString().getBytes(StandardCharsets.UTF_8)));
+  ReadYaml streamed = new StreamedYaml(new ByteArrayInputStream(yaml.toString().getBytes(StandardCharsets.UTF_8)));
+  assertTrue(composed.identical(streamed));
+
+  yaml.append("oneMore: *list\n");
+  byte[] exceeded = yaml.toString().getBytes(StandardCharsets.UTF_8);
+  assertThrowsExactly(ConfigurationException.class, () -> new ReadYaml(new ByteArrayInputStream(exceeded)));
+  assertThrowsExactly(ConfigurationException.class, () -> new StreamedYaml(new ByteArrayInputStream(exceeded)));
+
+  // Each level of nested aliases multiplies the amount of values by ten.
+  StringBuilder laughs = new StringBuilder("l0: &l0\n  laugh: \"ha\"\n");
+  for (int i = 1; i < 10; i++) {
+    laughs.append("l").append(i).append(": &l").append(i).append("\n");
+    for (int j = 0; j < 10; j++) {
+      laughs.append("  ").append(j).append(": *l").append(i - 1).append("\n");
+    }
+  }
+  byte[] billionLaughs = laughs.toString().getBytes(StandardCharsets.UTF_8);
+  assertThrowsExactly(ConfigurationException.class, () -> new StreamedYaml(new ByteArrayInputStream(billionLaughs)));
+}
+
+/**
+ Yaml with null in it should throw exception when read from its parse events. */
+@Test
+public void streamedContainsNull() throws IOException {
+  try (InputStream yamlData = EasyConfigurations.class.getResourceAsStream("/tests/Yamls/internalYamls/Config_HasNull.yml")) {
+    assert yamlData != null;
+
+    assertThrowsExactly(
+        ConfigurationException.class,
+        () -> new StreamedYaml(yamlData));
+  }
+}
 }
@@ -1,10 +1,12 @@
 package io.github.tye.tests;
 
+import io.github.tye.easyconfigs.ConfigObject;
 import io.github.tye.easyconfigs.EasyConfigurations;
 import io.github.tye.easyconfigs.SupportedClasses;
 import io.github.tye.easyconfigs.exceptions.ConfigurationException;
 import io.github.tye.easyconfigs.exceptions.NotOfClassException;
 import io.github.tye.easyconfigs.instances.reading.ReadingConfigInstance;
+import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -15,8 +17,11 @@ import org.junit.jupiter.params.provider.ValueSource;
 
 import java.net.Inet4Address;
 import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
 import java.time.ZonedDateTime;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Random;
 import java.util.stream.Stream;
 
@@ -106,6 +111,136 @@ void Enums_parse_respective_classes_correctly(Object valueToParse, Class<?> clas
 }
 
 
+private static Stream<Arguments> Enums_try_parse_like_their_class_provider() {
+  return Stream.of(
+      arguments(SupportedClasses.INTEGER, "2147483647"),
+      arguments(SupportedClasses.INTEGER, "2147483648"),
+      arguments(SupportedClasses.INTEGER, "-2147483648"),
+      arguments(SupportedClasses.INTEGER, "+12"),
+      arguments(SupportedClasses.INTEGER, "-"),
+      arguments(SupportedClasses.INTEGER, "12a"),
+      arguments(SupportedClasses.BYTE, "-129"),
+      arguments(SupportedClasses.SHORT, "32767"),
+      arguments(SupportedClasses.LONG, "-9223372036854775808"),
+      arguments(SupportedClasses.LONG, "9223372036854775808"),
+      arguments(SupportedClasses.DOUBLE, " 1.5e-3 "),
+      arguments(SupportedClasses.DOUBLE, ".5d"),
+      arguments(SupportedClasses.DOUBLE, "-Infinity"),
+      arguments(SupportedClasses.DOUBLE, "NaN"),
+      arguments(SupportedClasses.DOUBLE, "0x1.8p1"),
+      arguments(SupportedClasses.DOUBLE, "0x1.8"),
+      arguments(SupportedClasses.DOUBLE, "1e"),
+      arguments(SupportedClasses.DOUBLE, "."),
+      arguments(SupportedClasses.FLOAT, "3.2f"),
+      arguments(SupportedClasses.FLOAT, "three"),
+      arguments(SupportedClasses.LOCAL_DATE_TIME, "2007-12-03T10:15:30"),
+      arguments(SupportedClasses.LOCAL_DATE_TIME, "2007-13-03T10:15:30"),
+      arguments(SupportedClasses.LOCAL_DATE_TIME, "2007-12-03"),
+      arguments(SupportedClasses.LOCAL_DATE_TIME, "2007-12-03T10:15:30 and more"),
+      arguments(SupportedClasses.OFFSET_DATE_TIME, "2007-12-03T10:15:30+01:00"),
+      arguments(SupportedClasses.ZONED_DATE_TIME, "2007-12-03T10:15:30+01:00[Europe/Paris]"),
+      arguments(SupportedClasses.ZONED_DATE_TIME, "2007-12-03T10:15:30+01:00[Nowhere/Paris]")
+                  );
+}
+
+/**
+ Tests that values are accepted &amp; parsed by tryParse exactly when the parse methods of their class
+ accept them. */
+@ParameterizedTest
+@MethodSource("Enums_try_parse_like_their_class_provider")
+void Enums_try_parse_like_their_class(SupportedClasses supportedClass, String value) {
+  Object expected;
+  try {
+    switch (supportedClass) {
+    case INTEGER: expected = Integer.parseInt(value); break;
+    case BYTE: expected = Byte.parseByte(value); break;
+    case SHORT: expected = Short.parseShort(value); break;
+    case LONG: expected = Long.parseLong(value); break;
+    case DOUBLE: expected = Double.parseDouble(value); break;
+    case FLOAT: expected = Float.parseFloat(value); break;
+    case LOCAL_DATE_TIME: expected = LocalDateTime.parse(value); break;
+    case OFFSET_DATE_TIME: expected = OffsetDateTime.parse(value); break;
+    default: expected = ZonedDateTime.parse(value); break;
+    }
+  }
+  catch (RuntimeException e) {
+    expected = null;
+  }
+
+  assertEquals(expected, supportedClass.tryParse(value));
+}
+
+/**
+ Tests that lists are only parsed if every value within them can be parsed. */
+@Test
+public void listsTryParseEveryValue() {
+  assertNotNull(SupportedClasses.INTEGER_LIST.tryParse(Arrays.asList(1, "2", 3)));
+  assertNull(SupportedClasses.INTEGER_LIST.tryParse(Arrays.asList(1, "two", 3)));
+  assertNull(SupportedClasses.INTEGER_LIST.tryParse("1, 2, 3"));
+  assertNull(SupportedClasses.BOOLEAN_LIST.tryParse(Arrays.asList(true, null)));
+}
+
+/**
+ A config object that only implements the interface through its superclass. */
+public static class IndirectCustomObject extends CustomObject {
+  public IndirectCustomObject() {
+    super("indirect");
+  }
+}
+
+/**
+ Tests that classes implementing {@link io.github.tye.easyconfigs.ConfigObject} through a superclass
+ are supported, &amp; that unsupported classes are consistently unsupported. */
+@Test
+public void indirectConfigObjectsAreSupported() throws ConfigurationException {
+  assertTrue(existsAsEnum(IndirectCustomObject.class));
+  assertSame(SupportedClasses.CONFIG_OBJECT, getAsEnum(IndirectCustomObject.class));
+  assertSame(SupportedClasses.CONFIG_OBJECT_LIST, getAsEnum(IndirectCustomObject[].class));
+
+  for (int i = 0; i < 2; i++) {
+    assertFalse(existsAsEnum(Random.class));
+    assertThrowsExactly(ConfigurationException.class, () -> getAsEnum(Random.class));
+  }
+}
+
+/**
+ A config object that parses values into the instance it's called on. */
+public static class SelfParsingObject implements ConfigObject {
+  private String text;
+
+  public SelfParsingObject() {}
+
+  @Override
+  public @NotNull String getConfigString() {
+    return text;
+  }
+
+  @Override
+  public @NotNull ConfigObject parseConfigString(@NotNull String configString) {
+    text = configString;
+    return this;
+  }
+}
+
+/**
+ Tests that every value of a config object is parsed by a new instance, so config objects that parse
+ values into themselves don't share their values. */
+@Test
+public void configObjectsParsedByNewInstances() throws ConfigurationException {
+  Object first = SupportedClasses.CONFIG_OBJECT.tryParseCustom(SelfParsingObject.class, "first");
+  Object second = SupportedClasses.CONFIG_OBJECT.tryParseCustom(SelfParsingObject.class, "second");
+  assertNotNull(first);
+  assertNotNull(second);
+  assertEquals("first", ((SelfParsingObject) first).getConfigString());
+  assertEquals("second", ((SelfParsingObject) second).getConfigString());
+
+  Object parsed = SupportedClasses.CONFIG_OBJECT_LIST.tryParseCustom(SelfParsingObject[].class, new String[]{"a", "b"});
+  assertNotNull(parsed);
+  List<?> list = (List<?>) parsed;
+  assertEquals("a", ((SelfParsingObject) list.get(0)).getConfigString());
+  assertEquals("b", ((SelfParsingObject) list.get(1)).getConfigString());
+}
+
 /**
  Tests if giving a non-enum class would throw the appropriate exception. */
 @Test
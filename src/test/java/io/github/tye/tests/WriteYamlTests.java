@@ -1,11 +1,17 @@
 package io.github.tye.tests;
 
 import io.github.tye.easyconfigs.ConfigObject;
+import io.github.tye.easyconfigs.ConfigSnapshot;
 import io.github.tye.easyconfigs.EasyConfigurations;
 import io.github.tye.easyconfigs.exceptions.ConfigurationException;
+import io.github.tye.easyconfigs.exceptions.NotInitiatedException;
 import io.github.tye.easyconfigs.exceptions.NotOfClassException;
+import io.github.tye.easyconfigs.handles.IntHandle;
+import io.github.tye.easyconfigs.instances.InstanceRegistry;
+import io.github.tye.easyconfigs.instances.ValueStore;
 import io.github.tye.easyconfigs.instances.persistent.PersistentInstanceHandler;
-import io.github.tye.easyconfigs.instances.reading.ReadingInstanceHandler;
+import io.github.tye.easyconfigs.internalConfigs.Lang;
+import io.github.tye.easyconfigs.keys.RenderCache;
 import io.github.tye.easyconfigs.logger.LogType;
 import io.github.tye.easyconfigs.yamls.ReadYaml;
 import io.github.tye.easyconfigs.yamls.WriteYaml;
@@ -19,8 +25,10 @@ import org.junit.jupiter.api.io.TempDir;
 import java.io.*;
 import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Objects;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -29,10 +37,10 @@ public class WriteYamlTests {
 
 @BeforeEach
 public void reset_environment() {
-  EasyConfigurations.persistentConfigInstance = new PersistentInstanceHandler();
-  EasyConfigurations.persistentLangInstance = new PersistentInstanceHandler();
-  EasyConfigurations.readOnlyLangInstance = new ReadingInstanceHandler();
-  EasyConfigurations.readOnlyConfigInstance = new ReadingInstanceHandler();
+  // Registering a handler without values makes an enum act as if it was never registered.
+  InstanceRegistry.register(Config_Default.class, new PersistentInstanceHandler());
+  InstanceRegistry.register(Lang_Default.class, new PersistentInstanceHandler());
+  InstanceRegistry.register(PersistentConfig_Custom.class, new PersistentInstanceHandler());
 }
 
 /**
@@ -57,14 +65,23 @@ private File getFile(String internalPath) throws IOException {
 }
 
 private void waitForWrite() throws InterruptedException {
-  while (EasyConfigurations.persistentLangInstance.isWriting()) {
+  while (handler(Lang_Default.class).isWriting()) {
     Thread.sleep(100);
   }
-  while (EasyConfigurations.persistentConfigInstance.isWriting()) {
+  while (handler(Config_Default.class).isWriting()) {
+    Thread.sleep(100);
+  }
+  while (handler(PersistentConfig_Custom.class).isWriting()) {
     Thread.sleep(100);
   }
 }
 
+/**
+ Gets the handler registered for the given persistent enum. */
+private PersistentInstanceHandler handler(Class<?> persistentEnum) {
+  return (PersistentInstanceHandler) InstanceRegistry.getHandler(persistentEnum);
+}
+
 
 /**
  Tests removing extra keys from the external file. */
@@ -266,6 +283,44 @@ public void parsingLang() throws IOException, ConfigurationException, Interrupte
   waitForWrite();
 }
 
+/**
+ Tests that cached lang responses are reused, evicted when the cache is full, &amp; removed when the
+ lang is replaced. */
+@Test
+public void langRenderCache() throws IOException, ConfigurationException, InterruptedException {
+  assertThrowsExactly(NotInitiatedException.class, () -> EasyConfigurations.enableRenderCache(Lang_Default.class, 1));
+  assertThrowsExactly(IllegalArgumentException.class, () -> EasyConfigurations.enableRenderCache(Config_Default.class, 1));
+
+  EasyConfigurations.registerPersistentLang(Lang_Default.class, "/tests/Yamls/externalYamls/Lang_Default.yml", getFile("/tests/Yamls/externalYamls/Lang_Default.yml"));
+  assertThrowsExactly(IllegalArgumentException.class, () -> EasyConfigurations.enableRenderCache(Lang_Default.class, 0));
+
+  RenderCache cache = EasyConfigurations.enableRenderCache(Lang_Default.class, 1);
+
+  assertEquals("Many, a many word!", Lang_Default.word.get());
+  assertEquals("Many, a many word!", Lang_Default.word.get());
+  assertEquals(1, cache.getHits());
+  assertEquals(1, cache.getMisses());
+
+  // The cache can only contain one response, so the first response is evicted.
+  assertEquals("Many, a many more words!", Lang_Default.words.get());
+  assertEquals("Many, a many word!", Lang_Default.word.get());
+  assertEquals(1, cache.getHits());
+  assertEquals(3, cache.getMisses());
+  assertEquals(1, cache.size());
+
+  // Replacing the lang removes its cached response.
+  Lang_Default.word.replaceValue("Fewer words!");
+  assertEquals(0, cache.size());
+  assertEquals("Fewer words!", Lang_Default.word.get());
+
+  EasyConfigurations.disableRenderCache(Lang_Default.class);
+  assertEquals("Fewer words!", Lang_Default.word.get());
+  assertEquals(4, cache.getMisses());
+
+  // Waits for any changes to be written to the file
+  waitForWrite();
+}
+
 
 @Test
 public void replaceTest() throws IOException, ConfigurationException, InterruptedException {
@@ -302,6 +357,10 @@ public void replaceTest() throws IOException, ConfigurationException, Interrupte
       Arrays.asList(1, 2, 3),
       Config_Default.numbers.getAsIntegerList());
 
+  assertArrayEquals(
+      new int[]{1, 2, 3},
+      Config_Default.numbers.getAsIntArray());
+
   // Waits for any changes to be written to the file
   waitForWrite();
 
@@ -321,6 +380,146 @@ public void replaceTest() throws IOException, ConfigurationException, Interrupte
 }
 
 
+/**
+ Tests replacing a primitive value updates the value retrieved by its getter. */
+@Test
+public void replacePrimitive() throws IOException, ConfigurationException, InterruptedException {
+  EasyConfigurations.registerPersistentConfig(
+      Config_Default.class,
+      "/tests/Yamls/externalYamls/Config_DefaultYaml.yml",
+      getFile("/tests/Yamls/externalYamls/Config_DefaultYaml.yml"));
+
+  IntHandle number = Config_Default.number.intHandle();
+  assertEquals(1, Config_Default.number.getAsInteger());
+  assertEquals(1, number.get());
+
+  Config_Default.number.replaceValue(5);
+
+  assertEquals(5, Config_Default.number.getAsInteger());
+  assertEquals(5, number.get());
+
+  // Waits for any changes to be written to the file
+  waitForWrite();
+}
+
+/**
+ Tests modifying a list after it has been used to replace a value doesn't modify the value. */
+@Test
+public void replaceListCopied() throws IOException, ConfigurationException, InterruptedException {
+  EasyConfigurations.registerPersistentConfig(
+      Config_Default.class,
+      "/tests/Yamls/externalYamls/Config_DefaultYaml.yml",
+      getFile("/tests/Yamls/externalYamls/Config_DefaultYaml.yml"));
+
+  ArrayList<String> newValue = new ArrayList<>(Arrays.asList("Is", "Sparta"));
+  Config_Default.This.replaceValue(newValue);
+  newValue.add("Modified");
+
+  assertEquals(
+      Arrays.asList("Is", "Sparta"),
+      Config_Default.This.getAsStringList());
+
+  assertThrowsExactly(UnsupportedOperationException.class, () -> Config_Default.This.getAsStringList().add("Modified"));
+
+  // Primitive lists are read only & bounds checked the same way.
+  List<Integer> numbers = Config_Default.numbers.getAsIntegerList();
+  assertEquals(Arrays.asList(1, 2), numbers);
+  assertThrowsExactly(UnsupportedOperationException.class, () -> numbers.add(3));
+  assertThrowsExactly(UnsupportedOperationException.class, () -> numbers.set(0, 3));
+  assertThrowsExactly(UnsupportedOperationException.class, () -> numbers.remove(0));
+  assertThrowsExactly(IndexOutOfBoundsException.class, () -> numbers.get(2));
+  assertThrowsExactly(IndexOutOfBoundsException.class, () -> numbers.get(-1));
+
+  // Waits for any changes to be written to the file
+  waitForWrite();
+}
+
+/**
+ Tests a snapshot keeps the values from when it was taken. */
+@Test
+public void snapshot() throws IOException, ConfigurationException, InterruptedException {
+  assertThrowsExactly(NotInitiatedException.class, () -> EasyConfigurations.snapshot(Config_Default.class));
+
+  EasyConfigurations.registerPersistentConfig(
+      Config_Default.class,
+      "/tests/Yamls/externalYamls/Config_DefaultYaml.yml",
+      getFile("/tests/Yamls/externalYamls/Config_DefaultYaml.yml"));
+
+  ConfigSnapshot<Config_Default> before = EasyConfigurations.snapshot(Config_Default.class);
+
+  Config_Default.number.replaceValue(5);
+  Config_Default.nah.replaceValue("Yar in fact");
+
+  ConfigSnapshot<Config_Default> after = EasyConfigurations.snapshot(Config_Default.class);
+
+  assertEquals(1, before.getAsInteger(Config_Default.number));
+  assertEquals(preFormattedValues.get("test.nah"), before.getAsString(Config_Default.nah));
+  assertEquals(5, after.getAsInteger(Config_Default.number));
+  assertEquals("Yar in fact", after.getAsString(Config_Default.nah));
+
+  assertEquals(Arrays.asList(1, 2), after.getAsIntegerList(Config_Default.numbers));
+  assertThrowsExactly(NotOfClassException.class, () -> after.getAsString(Config_Default.number));
+
+  // Snapshots can only be taken of the registered enum.
+  assertThrowsExactly(NotInitiatedException.class, () -> EasyConfigurations.snapshot(PersistentConfig_Custom.class));
+
+  // Waits for any changes to be written to the file
+  waitForWrite();
+}
+
+/**
+ Tests replacing values from multiple threads doesn't lose any replacements, &amp; that readers only
+ ever see complete replacements. */
+@Test
+public void concurrentReplace() throws IOException, ConfigurationException, InterruptedException {
+  File externalFile = getFile("/tests/Yamls/externalYamls/Config_DefaultYaml.yml");
+  EasyConfigurations.registerPersistentConfig(
+      Config_Default.class,
+      "/tests/Yamls/externalYamls/Config_DefaultYaml.yml",
+      externalFile);
+
+  int replacements = 2_000;
+  Thread numberWriter = new Thread(() -> {
+    for (int i = 1; i <= replacements; i++) Config_Default.number.replaceValue(i);
+  });
+  Thread stringWriter = new Thread(() -> {
+    for (int i = 1; i <= replacements; i++) Config_Default.nah.replaceValue("value " + i);
+  });
+
+  numberWriter.start();
+  stringWriter.start();
+
+  // Each value is only replaced by one thread, so the values should never go backwards.
+  int lastNumber = 0;
+  while (numberWriter.isAlive()) {
+    int number = Config_Default.number.getAsInteger();
+    assertTrue(number >= lastNumber);
+    lastNumber = number;
+  }
+
+  numberWriter.join();
+  stringWriter.join();
+
+  assertEquals(replacements, Config_Default.number.getAsInteger());
+  assertEquals("value " + replacements, Config_Default.nah.getAsString());
+
+  // Waits for any changes to be written to the file
+  waitForWrite();
+
+  // Tests the newest values were written to the file
+  EasyConfigurations.registerPersistentConfig(
+      Config_Default.class,
+      "/tests/Yamls/externalYamls/Config_DefaultYaml.yml",
+      externalFile);
+
+  assertEquals(replacements, Config_Default.number.getAsInteger());
+  assertEquals("value " + replacements, Config_Default.nah.getAsString());
+
+  // Waits for any changes to be written to the file
+  waitForWrite();
+}
+
+
 @Test
 public void externalShouldOverride() throws IOException, ConfigurationException, InterruptedException {
   String content = "# I wonder what this will do\n" +
@@ -459,4 +658,33 @@ public void customReplace() throws ConfigurationException, IOException, Interrup
       fileContent,
       new String(Files.readAllBytes(externalFile.toPath())));
 }
+
+/**
+ Values that are, or contain, null should be rejected when they're stored, &amp; stored values should be
+ returned unchanged when they're read. */
+@Test
+public void nullCheckedWhenStored() throws IOException, ConfigurationException, InterruptedException {
+  EasyConfigurations.registerPersistentConfig(Config_Default.class, "/tests/Yamls/externalYamls/Config_DefaultYaml.yml", getFile("/tests/Yamls/externalYamls/Config_DefaultYaml.yml"));
+  waitForWrite();
+
+  ValueStore values = handler(Config_Default.class).getValues();
+
+  NullPointerException stored = assertThrowsExactly(
+      NullPointerException.class,
+      () -> values.withValue(Config_Default.This, Arrays.asList("Is", null)));
+  assertEquals(Lang.containsNull(Config_Default.This.getYamlPath()), stored.getMessage());
+
+  assertThrowsExactly(NullPointerException.class, () -> Config_Default.This.replaceValue(Arrays.asList("Is", null)));
+  assertThrowsExactly(NullPointerException.class, () -> Config_Default.hmm.replaceValue(null));
+
+  // The rejected values didn't replace the stored ones.
+  assertSame(values, handler(Config_Default.class).getValues());
+
+  // Stored values are returned as they are, without being checked or copied again.
+  List<String> list = Config_Default.This.getAsStringList();
+  assertEquals(Arrays.asList("Is", "Sparta"), list);
+  assertSame(list, Config_Default.This.getAsStringList());
+  assertSame(values.getValue(Config_Default.This), list);
+  assertEquals("Weee", Config_Default.hmm.getAsString());
+}
 }
@@ -0,0 +1,44 @@
+package io.github.tye.tests.readingInstanceClasses;
+
+import io.github.tye.easyconfigs.instances.reading.ReadingConfigInstance;
+
+import java.time.ZonedDateTime;
+
+public enum ReadingConfig_Parallel implements ReadingConfigInstance {
+  list0(ZonedDateTime[].class, "list0"),
+  list1(ZonedDateTime[].class, "list1"),
+  list2(ZonedDateTime[].class, "list2"),
+  list3(ZonedDateTime[].class, "list3"),
+  list4(ZonedDateTime[].class, "list4"),
+  list5(ZonedDateTime[].class, "list5"),
+  list6(ZonedDateTime[].class, "list6"),
+  list7(ZonedDateTime[].class, "list7"),
+  list8(ZonedDateTime[].class, "list8"),
+  list9(ZonedDateTime[].class, "list9"),
+  list10(ZonedDateTime[].class, "list10"),
+  list11(ZonedDateTime[].class, "list11"),
+  list12(ZonedDateTime[].class, "list12"),
+  list13(ZonedDateTime[].class, "list13"),
+  list14(ZonedDateTime[].class, "list14"),
+  list15(ZonedDateTime[].class, "list15"),
+  list16(ZonedDateTime[].class, "list16"),
+  list17(ZonedDateTime[].class, "list17"),
+  list18(ZonedDateTime[].class, "list18"),
+  list19(ZonedDateTime[].class, "list19"),
+  list20(ZonedDateTime[].class, "list20"),
+  list21(ZonedDateTime[].class, "list21"),
+  list22(ZonedDateTime[].class, "list22"),
+  list23(ZonedDateTime[].class, "list23"),
+  list24(ZonedDateTime[].class, "list24"),
+  list25(ZonedDateTime[].class, "list25"),
+  list26(ZonedDateTime[].class, "list26"),
+  list27(ZonedDateTime[].class, "list27"),
+  list28(ZonedDateTime[].class, "list28"),
+  list29(ZonedDateTime[].class, "list29"),
+  list30(ZonedDateTime[].class, "list30"),
+  list31(ZonedDateTime[].class, "list31");
+
+ReadingConfig_Parallel(Class<?> markedClazz, String yamlPath) {
+  init(markedClazz, yamlPath);
+}
+}
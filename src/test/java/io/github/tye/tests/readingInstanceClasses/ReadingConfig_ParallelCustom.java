@@ -0,0 +1,43 @@
+package io.github.tye.tests.readingInstanceClasses;
+
+import io.github.tye.easyconfigs.instances.reading.ReadingConfigInstance;
+import io.github.tye.tests.NumberObject;
+
+public enum ReadingConfig_ParallelCustom implements ReadingConfigInstance {
+  number0(NumberObject.class, "number0"),
+  number1(NumberObject.class, "number1"),
+  number2(NumberObject.class, "number2"),
+  number3(NumberObject.class, "number3"),
+  number4(NumberObject.class, "number4"),
+  number5(NumberObject.class, "number5"),
+  number6(NumberObject.class, "number6"),
+  number7(NumberObject.class, "number7"),
+  number8(NumberObject.class, "number8"),
+  number9(NumberObject.class, "number9"),
+  number10(NumberObject.class, "number10"),
+  number11(NumberObject.class, "number11"),
+  number12(NumberObject.class, "number12"),
+  number13(NumberObject.class, "number13"),
+  number14(NumberObject.class, "number14"),
+  number15(NumberObject.class, "number15"),
+  number16(NumberObject.class, "number16"),
+  number17(NumberObject.class, "number17"),
+  number18(NumberObject.class, "number18"),
+  number19(NumberObject.class, "number19"),
+  number20(NumberObject.class, "number20"),
+  number21(NumberObject.class, "number21"),
+  number22(NumberObject.class, "number22"),
+  number23(NumberObject.class, "number23"),
+  number24(NumberObject.class, "number24"),
+  number25(NumberObject.class, "number25"),
+  number26(NumberObject.class, "number26"),
+  number27(NumberObject.class, "number27"),
+  number28(NumberObject.class, "number28"),
+  number29(NumberObject.class, "number29"),
+  number30(NumberObject.class, "number30"),
+  number31(NumberObject.class, "number31");
+
+ReadingConfig_ParallelCustom(Class<?> markedClazz, String yamlPath) {
+  init(markedClazz, yamlPath);
+}
+}
@@ -5,7 +5,9 @@ import io.github.tye.easyconfigs.instances.reading.ReadingLangInstance;
 public enum ReadingLang_Keys implements ReadingLangInstance {
 
   joke("joke"),
-  unJoke("unJoke");
+  unJoke("unJoke"),
+  repeated("repeated"),
+  multiCharacter("multiCharacter");
 
 ReadingLang_Keys(String yamlPath) {
   init(yamlPath);